@@ -0,0 +1,63 @@
+package org.salerno.model.lists;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building and walking a large list of node objects against the same list in flat arrays, the flat list is walked in
+ * memory order.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CompactRandomLinkedListBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class LargeState {
+
+        @Param({"1000000", "10000000"})
+        private int size;
+
+        private String[] tags;
+        private RandomLinkedList list;
+        private CompactRandomLinkedList compactList;
+
+        @Setup
+        public void setup() {
+            // a thousand distinct tags, repeated
+            tags = new String[size];
+            for(int i = 0; i < size; i++) {
+                tags[i] = String.valueOf(i % 1000);
+            }
+            list = RandomLinkedList.asList(tags);
+            compactList = CompactRandomLinkedList.asList(tags);
+        }
+
+    }
+
+    @Benchmark
+    public void asList(LargeState state, Blackhole bh) {
+        bh.consume(RandomLinkedList.asList(state.tags));
+    }
+
+    @Benchmark
+    public void asCompactList(LargeState state, Blackhole bh) {
+        bh.consume(CompactRandomLinkedList.asList(state.tags));
+    }
+
+    @Benchmark
+    public void iterate(LargeState state, Blackhole bh) {
+        for(String tag : state.list) {
+            bh.consume(tag);
+        }
+    }
+
+    @Benchmark
+    public void iterateCompact(LargeState state, Blackhole bh) {
+        for(String tag : state.compactList) {
+            bh.consume(tag);
+        }
+    }
+
+}
@@ -0,0 +1,101 @@
+package org.salerno.model.lists;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One queue shared by producers pushing and consumers popping, the lock-free queue against the list guarded by its
+ * monitor. Each group has one producer and one consumer by default, run with {@code -tg 1,1} up to
+ * {@code -tg 16,16} for 2 to 32 threads, and {@code -t 1} up to {@code -t 32} for the threads that both push and pop.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ConcurrentRandomLinkedListBenchmark {
+
+    private static final String[] TAGS = {"Mercury", "Venus", "Earth", "Mars", "Jupiter", "Saturn", "Uranus", "Neptune"};
+    /** Producers stop pushing past this length, so a queue whose consumers fall behind does not fill the heap */
+    private static final int MAX_LENGTH = 4096;
+
+    @State(Scope.Group)
+    public static class GroupState {
+
+        private RandomLinkedList locked;
+        private ConcurrentRandomLinkedList lockFree;
+
+        @Setup
+        public void setup() {
+            locked = RandomLinkedList.asList(TAGS);
+            lockFree = ConcurrentRandomLinkedList.asList(TAGS);
+        }
+
+    }
+
+    @State(Scope.Benchmark)
+    public static class SharedState {
+
+        private RandomLinkedList locked;
+        private ConcurrentRandomLinkedList lockFree;
+
+        @Setup
+        public void setup() {
+            locked = RandomLinkedList.asList(TAGS);
+            lockFree = ConcurrentRandomLinkedList.asList(TAGS);
+        }
+
+    }
+
+    /* ---------------------------------- Producers and Consumers ---------------------------------- **/
+
+    @Benchmark
+    @Group("locked")
+    @GroupThreads(1)
+    public void lockedPush(GroupState state) {
+        if(state.locked.size() < MAX_LENGTH) state.locked.push("Pluto");
+    }
+
+    @Benchmark
+    @Group("locked")
+    @GroupThreads(1)
+    public void lockedPop(GroupState state, Blackhole bh) {
+        bh.consume(state.locked.pop());
+    }
+
+    @Benchmark
+    @Group("lockFree")
+    @GroupThreads(1)
+    public void lockFreePush(GroupState state) {
+        if(state.lockFree.size() < MAX_LENGTH) state.lockFree.push("Pluto");
+    }
+
+    @Benchmark
+    @Group("lockFree")
+    @GroupThreads(1)
+    public void lockFreePop(GroupState state, Blackhole bh) {
+        bh.consume(state.lockFree.pop());
+    }
+
+    /* ---------------------------------- Push then Pop ---------------------------------- **/
+
+    /**
+     * Every thread pushes then pops, the queue stays about the same length
+     */
+    @Benchmark
+    @Threads(4)
+    public void lockedPushPop(SharedState state, Blackhole bh) {
+        state.locked.push("Pluto");
+        bh.consume(state.locked.pop());
+    }
+
+    /**
+     * Every thread pushes then pops, the queue stays about the same length
+     */
+    @Benchmark
+    @Threads(4)
+    public void lockFreePushPop(SharedState state, Blackhole bh) {
+        state.lockFree.push("Pluto");
+        bh.consume(state.lockFree.pop());
+    }
+
+}
@@ -0,0 +1,99 @@
+package org.salerno.model.lists;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lists used from several threads at once. Run with {@code -t 1} and {@code -t 8} to compare, independent lists on
+ * different threads should scale with the threads while one shared list is limited by its own monitor.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class RandomLinkedListBenchmark {
+
+    private static final String[] TAGS = {"Mercury", "Venus", "Earth", "Mars", "Jupiter", "Saturn", "Uranus", "Neptune"};
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+
+        private RandomLinkedList list;
+
+        @Setup
+        public void setup() {
+            list = RandomLinkedList.asList(TAGS);
+        }
+
+    }
+
+    @State(Scope.Benchmark)
+    public static class SharedState {
+
+        private RandomLinkedList list;
+
+        @Setup
+        public void setup() {
+            list = RandomLinkedList.asList(TAGS);
+        }
+
+    }
+
+    @State(Scope.Benchmark)
+    public static class LargeState {
+
+        @Param({"1000", "1000000"})
+        private int size;
+
+        private String[] tags;
+
+        @Setup
+        public void setup() {
+            tags = new String[size];
+            for(int i = 0; i < size; i++) {
+                tags[i] = String.valueOf(i);
+            }
+        }
+
+    }
+
+    /**
+     * A list of each thread's own, the list stays the same length
+     */
+    @Benchmark
+    public void pushPopSize(ThreadState state, Blackhole bh) {
+        state.list.push("Pluto");
+        bh.consume(state.list.size());
+        bh.consume(state.list.pop());
+    }
+
+    /**
+     * A new list on each thread
+     */
+    @Benchmark
+    public void asList(Blackhole bh) {
+        bh.consume(RandomLinkedList.asList(TAGS));
+    }
+
+    /**
+     * Building a large list, each node is given a random reference in O(1)
+     */
+    @Benchmark
+    @Threads(1)
+    @BenchmarkMode(Mode.AverageTime)
+    public void asListLarge(LargeState state, Blackhole bh) {
+        bh.consume(RandomLinkedList.asList(state.tags));
+    }
+
+    /**
+     * One list shared by every thread, the list stays about the same length
+     */
+    @Benchmark
+    public void pushPopSizeShared(SharedState state, Blackhole bh) {
+        state.list.push("Pluto");
+        bh.consume(state.list.size());
+        bh.consume(state.list.pop());
+    }
+
+}
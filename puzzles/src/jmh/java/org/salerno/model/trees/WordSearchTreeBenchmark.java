@@ -0,0 +1,235 @@
+package org.salerno.model.trees;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WordSearchTreeBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+
+        @Param({"", "b", "str", "beau"})
+        private String prefix;
+
+        @Param({"10"})
+        private int k;
+
+        private WordSearchTree tree;
+
+        @Setup
+        public void setup() {
+            final HashMap<String, Long> weights = new HashMap<>();
+            for(String word : getLexiconFromFile()) {
+                weights.merge(word.toLowerCase(), (long) (word.hashCode() & 0xFFFF), Math::max);
+            }
+            tree = WordSearchTree.asTree(weights);
+        }
+
+    }
+
+    @State(Scope.Benchmark)
+    public static class FuzzyState {
+
+        @Param({"1", "2"})
+        private int maxDistance;
+
+        @Param({"beautifcation", "strke", "cta"})
+        private String word;
+
+        private WordSearchTree tree;
+        private HashSet<String> words;
+
+        @Setup
+        public void setup() {
+            words = new HashSet<>();
+            for(String word : getLexiconFromFile()) {
+                words.add(word.toLowerCase());
+            }
+            tree = WordSearchTree.asTree(words);
+        }
+
+    }
+
+    @State(Scope.Benchmark)
+    public static class PatternState {
+
+        @Param({"c?t", "st*ng", "*tion"})
+        private String pattern;
+
+        @Param({"retains", "abe??"})
+        private String letters;
+
+        private WordSearchTree tree;
+        private HashSet<String> words;
+
+        @Setup
+        public void setup() {
+            words = new HashSet<>();
+            for(String word : getLexiconFromFile()) {
+                words.add(word.toLowerCase());
+            }
+            tree = WordSearchTree.asTree(words);
+        }
+
+    }
+
+    @State(Scope.Benchmark)
+    public static class LookupState {
+
+        private WordSearchTree tree;
+        private BoxedTree boxedTree;
+        private String[] words;
+
+        @Setup
+        public void setup() {
+            final List<String> lexicon = getLexiconFromFile();
+            tree = WordSearchTree.asTree(new HashSet<>(lexicon));
+            boxedTree = new BoxedTree(lexicon);
+            // every 97th word, in mixed case
+            final ArrayList<String> sample = new ArrayList<>();
+            for(int i = 0; i < lexicon.size(); i += 97) {
+                sample.add(i % 2 == 0 ? lexicon.get(i) : lexicon.get(i).toUpperCase());
+            }
+            words = sample.toArray(new String[0]);
+        }
+
+    }
+
+    @Benchmark
+    public void isWord(LookupState state, Blackhole bh) {
+        for(String word : state.words) {
+            bh.consume(state.tree.isWord(word));
+        }
+    }
+
+    @Benchmark
+    public void isWordBoxed(LookupState state, Blackhole bh) {
+        for(String word : state.words) {
+            bh.consume(state.boxedTree.isWord(word));
+        }
+    }
+
+    @Benchmark
+    public void complete(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.tree.complete(state.prefix, state.k));
+    }
+
+    @Benchmark
+    public void findSimilar(FuzzyState state, Blackhole bh) {
+        bh.consume(state.tree.findSimilar(state.word, state.maxDistance));
+    }
+
+    @Benchmark
+    public void findSimilarNaive(FuzzyState state, Blackhole bh) {
+        // compare the word with every word in the lexicon
+        final HashMap<String, Integer> results = new HashMap<>();
+        for(String word : state.words) {
+            final int distance = levenshtein(state.word, word);
+            if(distance <= state.maxDistance) results.put(word, distance);
+        }
+        bh.consume(results);
+    }
+
+    @Benchmark
+    public void match(PatternState state, Blackhole bh) {
+        state.tree.match(state.pattern, bh::consume);
+    }
+
+    @Benchmark
+    public void matchNaive(PatternState state, Blackhole bh) {
+        // test the pattern against every word in the lexicon
+        final Pattern regex = Pattern.compile(state.pattern.replace("?", ".").replace("*", ".*"));
+        for(String word : state.words) {
+            if(regex.matcher(word).matches()) bh.consume(word);
+        }
+    }
+
+    @Benchmark
+    public void matchLetters(PatternState state, Blackhole bh) {
+        state.tree.matchLetters(state.letters, bh::consume);
+    }
+
+    /* ---------------------------------- Baseline Class ---------------------------------- **/
+
+    /**
+     * The original {@code WordSearchTree} layout: a {@code HashMap} of boxed characters per node and a
+     * {@code String.toLowerCase()} copy per lookup
+     */
+    private static class BoxedTree {
+
+        private final HashMap<Character, BoxedTree> children = new HashMap<>();
+        private boolean isWordEnd = false;
+
+        private BoxedTree() {
+            // nop
+        }
+
+        private BoxedTree(final List<String> words) {
+            for(String word : words) {
+                BoxedTree node = this;
+                for(char character : word.toLowerCase().toCharArray()) {
+                    node = node.children.computeIfAbsent(character, ignored -> new BoxedTree());
+                }
+                node.isWordEnd = true;
+            }
+        }
+
+        private boolean isWord(final String word) {
+            BoxedTree node = this;
+            for(char character : word.toLowerCase().toCharArray()) {
+                node = node.children.get(character);
+                if(node == null) return false;
+            }
+            return node.isWordEnd;
+        }
+
+    }
+
+    /* ---------------------------------- Private Methods ---------------------------------- **/
+
+    private static int levenshtein(final String a, final String b) {
+        int[] previous = new int[b.length() + 1];
+        int[] row = new int[b.length() + 1];
+        for(int j = 0; j <= b.length(); j++) previous[j] = j;
+        for(int i = 1; i <= a.length(); i++) {
+            row[0] = i;
+            for(int j = 1; j <= b.length(); j++) {
+                final int replace = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                row[j] = Math.min(replace, Math.min(row[j - 1], previous[j]) + 1);
+            }
+            final int[] swap = previous;
+            previous = row;
+            row = swap;
+        }
+        return previous[b.length()];
+    }
+
+    static List<String> getLexiconFromFile() {
+        final String resourcePath = "AmericanEnglishLexicon.txt";
+        final ArrayList<String> result = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(WordSearchTreeBenchmark.class.getClassLoader().getResourceAsStream(resourcePath)))) {
+            String line = reader.readLine();
+            while(line != null) {
+                result.add(line);
+                line = reader.readLine();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load lexicon from resource: " + resourcePath, e);
+        }
+        return result;
+    }
+
+}
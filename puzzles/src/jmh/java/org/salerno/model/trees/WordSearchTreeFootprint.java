@@ -0,0 +1,65 @@
+package org.salerno.model.trees;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Prints the retained heap of each {@link WordSearch} backend built from the test lexicon.
+ * <br><br>
+ * Run with {@code ./gradlew footprint}. The retained heap is measured as the difference in used heap after a full
+ * garbage collection, so run it on a quiet JVM and expect a small amount of noise.
+ */
+public class WordSearchTreeFootprint {
+
+    private static final String LEXICON = "AmericanEnglishLexicon.txt";
+
+    public static void main(final String[] args) {
+        final HashSet<String> words = getLexiconFromFile();
+        System.out.printf("%-32s %12s %12s%n", "backend", "bytes", "bytes/word");
+        report("WordSearchTree", words.size(), () -> WordSearchTree.asTree(words));
+        report("CompactWordSearchTree", words.size(), () -> CompactWordSearchTree.asTree(words));
+        final List<String> sorted = words.stream().map(String::toLowerCase).sorted().collect(Collectors.toList());
+        report("WordSearchTree (graph)", words.size(), () -> WordSearchTree.asGraph(sorted));
+        report("CompactWordSearchTree (graph)", words.size(), () -> CompactWordSearchTree.of(WordSearchTree.asGraph(sorted)));
+    }
+
+    /* ---------------------------------- Private Methods ---------------------------------- **/
+
+    private static void report(final String name, final int wordCount, final Supplier<WordSearch> factory) {
+        final long before = usedHeap();
+        final WordSearch tree = factory.get();
+        final long bytes = usedHeap() - before;
+        System.out.printf("%-32s %12d %12.1f%n", name, bytes, (double) bytes / wordCount);
+        // keep the tree reachable until it is measured
+        if(tree.isWord(name)) System.out.println();
+    }
+
+    private static long usedHeap() {
+        final Runtime runtime = Runtime.getRuntime();
+        for(int i = 0; i < 4; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static HashSet<String> getLexiconFromFile() {
+        final HashSet<String> result = new HashSet<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(WordSearchTreeFootprint.class.getClassLoader().getResourceAsStream(LEXICON)))) {
+            String line = reader.readLine();
+            while(line != null) {
+                result.add(line);
+                line = reader.readLine();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load lexicon from resource: " + LEXICON, e);
+        }
+        return result;
+    }
+
+}
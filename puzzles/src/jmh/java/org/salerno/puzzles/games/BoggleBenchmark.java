@@ -0,0 +1,352 @@
+package org.salerno.puzzles.games;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.salerno.model.trees.WordSearchTree;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BoggleBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+
+        @Param({"4", "5", "9"})
+        private int size;
+
+        private Boggle boggle;
+        private BoardSolver.Grid grid;
+        private String[] boards;
+
+        @Setup
+        public void setup() {
+            boggle = new Boggle(WordSearchTree.asTree(getLexiconFromFile()));
+            grid = BoardSolver.Grid.of(size, size);
+            boards = randomBoards(new Random(42), 16, size * size);
+        }
+
+    }
+
+    @State(Scope.Thread)
+    public static class SolverState {
+
+        private BoardSolver solver;
+
+        @Setup
+        public void setup(BenchmarkState state) {
+            solver = new BoardSolver(state.boggle.wordSearchTree, 3);
+        }
+
+    }
+
+    @State(Scope.Benchmark)
+    public static class ParallelState {
+
+        @Param({"9", "20", "50"})
+        private int size;
+
+        @Param({"1", "2", "4", "8"})
+        private int parallelism;
+
+        private Boggle boggle;
+        private String board;
+
+        @Setup
+        public void setup() {
+            boggle = new Boggle(WordSearchTree.asTree(getLexiconFromFile()), parallelism);
+            board = randomBoards(new Random(42), 1, size * size)[0];
+        }
+
+        @TearDown
+        public void tearDown() {
+            boggle.close();
+        }
+
+    }
+
+    @State(Scope.Benchmark)
+    public static class LargeState {
+
+        @Param({"20", "50", "100"})
+        private int size;
+
+        private Boggle boggle;
+        private String board;
+
+        @Setup
+        public void setup() {
+            boggle = new Boggle(WordSearchTree.asTree(getLexiconFromFile()));
+            board = randomBoards(new Random(42), 1, size * size)[0];
+        }
+
+    }
+
+    @State(Scope.Thread)
+    public static class IncrementalState {
+
+        @Param({"5", "20", "50"})
+        private int size;
+
+        private Boggle boggle;
+        private IncrementalBoggle board;
+        private char[] letters;
+        private Random random;
+
+        @Setup
+        public void setup() {
+            final WordSearchTree lexicon = WordSearchTree.asTree(getLexiconFromFile());
+            final String initial = randomBoards(new Random(42), 1, size * size)[0];
+            boggle = new Boggle(lexicon);
+            board = new IncrementalBoggle(lexicon, size, size, initial);
+            letters = initial.toCharArray();
+            random = new Random(42);
+        }
+
+    }
+
+    @State(Scope.Benchmark)
+    public static class GeneratorState {
+
+        @Param({"4", "5"})
+        private int size;
+
+        @Param({"1", "4"})
+        private int parallelism;
+
+        private BoggleGenerator generator;
+
+        @Setup
+        public void setup() {
+            generator = new BoggleGenerator(WordSearchTree.asTree(getLexiconFromFile()), parallelism, 42);
+        }
+
+    }
+
+    @State(Scope.Benchmark)
+    public static class BatchState {
+
+        @Param({"1", "2", "4", "8"})
+        private int threads;
+
+        private Boggle boggle;
+        private BoggleBatch batch;
+        private List<String> boards;
+
+        @Setup
+        public void setup() {
+            final WordSearchTree lexicon = WordSearchTree.asTree(getLexiconFromFile());
+            boggle = new Boggle(lexicon);
+            batch = new BoggleBatch(lexicon, threads, threads * 4);
+            boards = Arrays.asList(randomBoards(new Random(42), 1000, 16));
+        }
+
+        @TearDown
+        public void tearDown() {
+            batch.close();
+        }
+
+    }
+
+    @State(Scope.Benchmark)
+    public static class MetricsState {
+
+        private Boggle boggle;
+
+        @Setup
+        public void setup(BenchmarkState state) {
+            boggle = new Boggle(state.boggle.wordSearchTree, 1, new SearchMetrics());
+        }
+
+    }
+
+    @State(Scope.Benchmark)
+    public static class CacheState {
+
+        private BoggleCache cache;
+        private String[] boards;
+
+        @Setup
+        public void setup() {
+            cache = new BoggleCache(new Boggle(WordSearchTree.asTree(getLexiconFromFile())), 1024);
+            // 16 boards, each seen as a few of its rotations and reflections
+            final String[] distinct = randomBoards(new Random(42), 16, 16);
+            boards = new String[distinct.length * 4];
+            for(int i = 0; i < distinct.length; i++) {
+                final String board = distinct[i];
+                boards[i * 4] = board;
+                boards[i * 4 + 1] = new StringBuilder(board).reverse().toString();
+                boards[i * 4 + 2] = flip(board, 4);
+                boards[i * 4 + 3] = new StringBuilder(flip(board, 4)).reverse().toString();
+            }
+        }
+
+    }
+
+    @Benchmark
+    public void solveBoard(BenchmarkState state, Blackhole bh) {
+        for(String board : state.boards) {
+            bh.consume(state.boggle.solveBoard(state.size, state.size, board));
+        }
+    }
+
+    /**
+     * The same boards counted into {@link SearchMetrics}, compare with {@link #solveBoard} for the cost of counting
+     * and with {@link #solveBoard} before metrics were added for the cost of not counting
+     */
+    @Benchmark
+    public void solveBoardWithMetrics(BenchmarkState state, MetricsState metricsState, Blackhole bh) {
+        for(String board : state.boards) {
+            bh.consume(metricsState.boggle.solveBoard(state.size, state.size, board));
+        }
+    }
+
+    @Benchmark
+    public void solveBoardLegacy(BenchmarkState state, Blackhole bh) {
+        for(String board : state.boards) {
+            bh.consume(state.boggle.solveBoardLegacy(state.size, state.size, board));
+        }
+    }
+
+    /**
+     * The solver on its own, reused across boards, run with {@code -prof gc} to see that it only allocates the
+     * words it finds
+     */
+    @Benchmark
+    public void solveBoardReused(BenchmarkState state, SolverState solverState, Blackhole bh) {
+        for(String board : state.boards) {
+            solverState.solver.solve(state.grid, board, bh::consume);
+        }
+    }
+
+    @Benchmark
+    public void solveBoardParallel(ParallelState state, Blackhole bh) {
+        bh.consume(state.boggle.solveBoard(state.size, state.size, state.board));
+    }
+
+    @Benchmark
+    public void solveLargeBoard(LargeState state, Blackhole bh) {
+        bh.consume(state.boggle.solveBoard(state.size, state.size, state.board));
+    }
+
+    /**
+     * A large board searched for at most a millisecond, compare with {@link #solveLargeBoard}
+     */
+    @Benchmark
+    public void solveLargeBoardWithinLimit(LargeState state, Blackhole bh) {
+        bh.consume(state.boggle.solveBoard(state.size, state.size, state.board, Duration.ofMillis(1), Long.MAX_VALUE));
+    }
+
+    /**
+     * Run with {@code -prof gc}, the streaming solver only builds a {@code String} for the first path to each word
+     */
+    @Benchmark
+    public void streamLargeBoard(LargeState state, Blackhole bh) {
+        state.boggle.solveBoard(state.size, state.size, state.board, bh::consume);
+    }
+
+    /**
+     * One random tile change, compare with {@link #setTileFullSolve}
+     */
+    @Benchmark
+    public void setTile(IncrementalState state, Blackhole bh) {
+        final int x = state.random.nextInt(state.size);
+        final int y = state.random.nextInt(state.size);
+        bh.consume(state.board.setTile(x, y, (char) ('a' + state.random.nextInt(26))));
+    }
+
+    @Benchmark
+    public void setTileFullSolve(IncrementalState state, Blackhole bh) {
+        state.letters[state.random.nextInt(state.letters.length)] = (char) ('a' + state.random.nextInt(26));
+        bh.consume(state.boggle.solveBoard(state.size, state.size, String.valueOf(state.letters)));
+    }
+
+    /**
+     * Moves scored per second, 4 restarts of 250 moves per operation
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(1000)
+    public void generate(GeneratorState state, Blackhole bh) {
+        bh.consume(state.generator.generate(state.size, state.size, 4, 250, null));
+    }
+
+    /**
+     * 1000 4x4 boards per operation, compare with {@link #solveBoardsOneByOne}
+     */
+    @Benchmark
+    public void solveBoardsBatch(BatchState state, Blackhole bh) {
+        state.batch.solve(4, 4, state.boards.iterator(), bh::consume);
+    }
+
+    @Benchmark
+    public void solveBoardsOneByOne(BatchState state, Blackhole bh) {
+        for(String board : state.boards) {
+            bh.consume(state.boggle.solveBoard(4, 4, board));
+        }
+    }
+
+    /**
+     * 64 4x4 boards, all symmetric to 16 boards that are already cached, compare with {@link #solveBoard}
+     */
+    @Benchmark
+    public void solveBoardCached(CacheState state, Blackhole bh) {
+        for(String board : state.boards) {
+            bh.consume(state.cache.solveBoard(4, 4, board));
+        }
+    }
+
+    /* ---------------------------------- Private Methods ---------------------------------- **/
+
+    /**
+     * @return The board with each row reversed
+     */
+    private static String flip(final String board, final int width) {
+        final StringBuilder builder = new StringBuilder();
+        for(int row = 0; row < board.length(); row += width) {
+            builder.append(new StringBuilder(board.substring(row, row + width)).reverse());
+        }
+        return builder.toString();
+    }
+
+    static String[] randomBoards(final Random random, final int count, final int area) {
+        // weighted towards common letters so boards have plenty of words
+        final String letters = "aaabcdeeeefghiiijklmnnooprrssstttuuvwy";
+        final String[] boards = new String[count];
+        for(int board = 0; board < count; board++) {
+            final StringBuilder builder = new StringBuilder();
+            for(int i = 0; i < area; i++) {
+                builder.append(letters.charAt(random.nextInt(letters.length())));
+            }
+            boards[board] = builder.toString();
+        }
+        return boards;
+    }
+
+    static HashSet<String> getLexiconFromFile() {
+        final String resourcePath = "AmericanEnglishLexicon.txt";
+        final HashSet<String> result = new HashSet<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(BoggleBenchmark.class.getClassLoader().getResourceAsStream(resourcePath)))) {
+            String line = reader.readLine();
+            while(line != null) {
+                result.add(line);
+                line = reader.readLine();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load lexicon from resource: " + resourcePath, e);
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,69 @@
+package org.salerno.puzzles.games;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.salerno.model.trees.WordSearchTree;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Searching the board for words against checking each word of the lexicon against the board, over lexicon and board
+ * sizes, to find where one overtakes the other. {@code Boggle} picks between them with the crossover found here.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BoggleStrategyBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class StrategyState {
+
+        @Param({"100", "1000", "10000", "48000"})
+        private int words;
+
+        @Param({"4", "9", "20", "50"})
+        private int size;
+
+        private BoardSolver.Grid grid;
+        private BoardSolver boardSolver;
+        private DictionaryBoardSolver dictionarySolver;
+        private String[] boards;
+
+        @Setup
+        public void setup() {
+            // a random sample of the lexicon, the same for every run
+            final ArrayList<String> lexicon = new ArrayList<>(BoggleBenchmark.getLexiconFromFile());
+            Collections.sort(lexicon);
+            Collections.shuffle(lexicon, new Random(1));
+            final WordSearchTree tree = WordSearchTree.asTree(new HashSet<>(lexicon.subList(0, Math.min(words, lexicon.size()))));
+
+            grid = BoardSolver.Grid.of(size, size);
+            boardSolver = new BoardSolver(tree, Boggle.MIN_NUM_LETTERS);
+            dictionarySolver = new DictionaryBoardSolver(DictionaryBoardSolver.Words.of(tree, Boggle.MIN_NUM_LETTERS, Integer.MAX_VALUE));
+            boards = BoggleBenchmark.randomBoards(new Random(42), 4, size * size);
+        }
+
+    }
+
+    @Benchmark
+    public void searchBoard(StrategyState state, Blackhole bh) {
+        for(String board : state.boards) {
+            final HashSet<String> results = new HashSet<>();
+            state.boardSolver.solve(state.grid, board, results::add);
+            bh.consume(results);
+        }
+    }
+
+    @Benchmark
+    public void checkWords(StrategyState state, Blackhole bh) {
+        for(String board : state.boards) {
+            final HashSet<String> results = new HashSet<>();
+            state.dictionarySolver.solve(state.grid, board, results::add);
+            bh.consume(results);
+        }
+    }
+
+}
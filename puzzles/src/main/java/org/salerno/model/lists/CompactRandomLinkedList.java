@@ -0,0 +1,389 @@
+package org.salerno.model.lists;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A singly-linked queue that contains references to random nodes within the list, stored in flat primitive arrays.
+ * <br><br>
+ * Every node is an {@code int} position. Nodes are only pushed on the tail and popped from the head, so the node after
+ * a node is always the next position and needs no pointer, and the list is walked in memory order. Each node keeps
+ * the position of the node it references and the index of its tag in a table of the distinct tags, equal tags are
+ * stored once and come back as the first one pushed. A node costs 8 bytes instead of the 28 or more of a
+ * {@link RandomLinkedList} node and its index.
+ * <br><br>
+ * A list returned by {@link #getNext()} or {@link #getReference()} is a view that starts part way into the same
+ * arrays, so like a {@code RandomLinkedList} it sees tags pushed on to the list it came from. A view is only its
+ * position and holds on to no nodes, so walking the list costs one small object a step. When the arrays fill, the
+ * nodes before the head of the list the arrays were made for, and of the list being pushed, are dropped. A view whose
+ * head was dropped carries on from the first node kept. A node that references a dropped node keeps only its tag, the
+ * list from {@link #getReference()} is then that one tag.
+ *
+ * @author alex.salerno@me.com
+ * @since Oct-2026
+ */
+public final class CompactRandomLinkedList implements Iterable<String> {
+
+    // constants
+    /** Bytes of a reference, compressed as on any heap under 32 GB */
+    private static final int REFERENCE_BYTES = 4;
+    /** Bytes of a {@code HashMap} and of each of its entries */
+    private static final int MAP_BYTES = 48;
+    private static final int MAP_ENTRY_BYTES = 32;
+    /** Bytes of an {@code Integer}, those up to 127 are cached and cost nothing */
+    private static final int INTEGER_BYTES = 16;
+
+    // instance vars
+    /** the nodes, shared with the lists that start part way in */
+    private final Storage storage;
+    /** the position of the head, counted from the first node ever pushed on the storage */
+    private long first;
+    /** the source of random references, {@code null} to use {@code ThreadLocalRandom} */
+    private final SplittableRandom random;
+
+    /* ---------------------------------- Constructor Methods ---------------------------------- **/
+
+    private CompactRandomLinkedList(final Storage storage, final long first, final SplittableRandom random) {
+        this.storage = storage;
+        this.first = first;
+        this.random = random;
+        // the first list on the storage is the one it was made for, the others are views
+        if(storage.owner == null) storage.owner = new WeakReference<>(this);
+    }
+
+    /* ---------------------------------- Public Methods ---------------------------------- **/
+
+    /**
+     * @param tags A collection of strings that identify a node in the list
+     * @return A compact singly linked list that contains references to random nodes within the list
+     */
+    public static CompactRandomLinkedList asList(final String... tags) {
+        return asList(null, tags);
+    }
+
+    /**
+     * @param seed The seed of the random references, the same seed and tags give the same layout
+     * @param tags A collection of strings that identify a node in the list
+     * @return A compact singly linked list that contains references to random nodes within the list
+     */
+    public static CompactRandomLinkedList asList(final long seed, final String... tags) {
+        return asList(new SplittableRandom(seed), tags);
+    }
+
+    @Override
+    public String toString() {
+        synchronized (this.storage) {
+            if(this.head() == this.storage.end) return "[]";
+            final StringBuilder result = new StringBuilder("[");
+            for(int node = this.head(); node < this.storage.end; node++) {
+                result.append(this.storage.tag(node)).append("->").append(this.storage.referenceTag(node)).append(", ");
+            }
+            return result.substring(0, result.length()-2) + "]";
+        }
+    }
+
+    /**
+     * @param tag Pushes the tag into the queue
+     */
+    public void push(final String tag) {
+        if(tag == null) return;
+        synchronized (this.storage) {
+            if(this.storage.end == this.storage.tagIds.length) this.makeRoom();
+            final int node = this.storage.end++;
+            this.storage.tagIds[node] = this.storage.intern(tag);
+            this.storage.references[node] = this.getRandomNode();
+        }
+    }
+
+    /**
+     * @return and removes the tag from the top of the queue
+     */
+    public String pop() {
+        synchronized (this.storage) {
+            if(this.head() == this.storage.end) return "";
+            final String tag = this.storage.tag(this.head());
+            this.first++;
+            return tag;
+        }
+    }
+
+    /**
+     * @return the tag of the element at the head of the queue but does not remove it
+     */
+    public String peek() {
+        synchronized (this.storage) {
+            if(this.head() == this.storage.end) return "";
+            return this.storage.tag(this.head());
+        }
+    }
+
+    /**
+     * @return The next node in the queue
+     */
+    public CompactRandomLinkedList getNext() {
+        synchronized (this.storage) {
+            if(this.head() == this.storage.end) return null;
+            // the last node has no next, the list after it is a new one
+            if(this.head() + 1 == this.storage.end) return new CompactRandomLinkedList(new Storage(), 0, this.split());
+            return new CompactRandomLinkedList(this.storage, this.first + 1, this.split());
+        }
+    }
+
+    /**
+     * @return The node that is referenced by this node
+     */
+    public CompactRandomLinkedList getReference() {
+        synchronized (this.storage) {
+            if(this.head() == this.storage.end) return null;
+            final int reference = this.storage.references[this.head()];
+            if(reference < 0) {
+                // a dropped node, only its tag is left
+                final CompactRandomLinkedList result = new CompactRandomLinkedList(new Storage(), 0, this.split());
+                result.push(this.storage.tags[-reference - 1]);
+                return result;
+            }
+            return new CompactRandomLinkedList(this.storage, this.storage.base + reference, this.split());
+        }
+    }
+
+    /**
+     * @return The number of elements in the queue
+     */
+    public int size() {
+        synchronized (this.storage) {
+            return this.storage.end - this.head();
+        }
+    }
+
+    /**
+     * Counts the arrays of the nodes, the table of tags and the map from each tag to its index, with compressed
+     * references. Not counted are the tags themselves, which belong to the caller, and the weak references to the
+     * lists in use, at most twice as many as there are lists.
+     *
+     * @return An estimate of the bytes used by the list and the lists that share its nodes
+     */
+    public long sizeInBytes() {
+        synchronized (this.storage) {
+            return arrayBytes(this.storage.tagIds.length, Integer.BYTES)
+                    + arrayBytes(this.storage.references.length, Integer.BYTES)
+                    + arrayBytes(this.storage.tags.length, REFERENCE_BYTES)
+                    + mapBytes(this.storage.tagIndexes.size());
+        }
+    }
+
+    /* ---------------------------------- Private Methods ---------------------------------- **/
+
+    /**
+     * @param random The source of random references, {@code null} to use {@code ThreadLocalRandom}
+     * @param tags A collection of strings that identify a node in the list
+     * @return A compact singly linked list that contains references to random nodes within the list
+     */
+    private static CompactRandomLinkedList asList(final SplittableRandom random, final String... tags) {
+        final CompactRandomLinkedList list = new CompactRandomLinkedList(new Storage(), 0, random);
+        if(tags == null) return list;
+
+        // lay out the nodes, then reference random nodes among all of them, the list is not shared yet
+        final Storage storage = list.storage;
+        storage.tagIds = new int[Math.max(tags.length, Storage.MIN_CAPACITY)];
+        storage.references = new int[storage.tagIds.length];
+        for(String tag : tags) {
+            if(tag == null) continue;
+            storage.tagIds[storage.end++] = storage.intern(tag);
+        }
+        for(int node = 0; node < storage.end; node++) {
+            storage.references[node] = list.getRandomNode();
+        }
+        return list;
+    }
+
+    /**
+     * @return The index of the head in the storage arrays, moved up to the first node kept if the head was dropped
+     */
+    private int head() {
+        if(this.first < this.storage.base) this.first = this.storage.base;
+        return (int) (this.first - this.storage.base);
+    }
+
+    /**
+     * @return The index of a random node from the head to the tail, a new tail included
+     */
+    private int getRandomNode() {
+        final int size = this.storage.end - this.head();
+        if(size == 0) return this.head();
+        final int offset = this.random == null ? ThreadLocalRandom.current().nextInt(size) : this.random.nextInt(size);
+        return this.head() + offset;
+    }
+
+    /**
+     * Makes room for a node after the tail, dropping the nodes before the head of this list and of the list the
+     * storage was made for if they are at least half of the storage, else growing
+     */
+    private void makeRoom() {
+        final Storage storage = this.storage;
+        final CompactRandomLinkedList owner = storage.owner.get();
+        final int head = this.head();
+        final int keep = owner == null ? head : Math.min(head, owner.head());
+        final int size = storage.end - keep;
+        if(size * 2 <= storage.tagIds.length) {
+            // references to dropped nodes keep the tag, as a negative tag index
+            for(int node = keep; node < storage.end; node++) {
+                final int reference = storage.references[node];
+                if(reference >= keep) storage.references[node] = reference - keep;
+                else if(reference >= 0) storage.references[node] = -storage.tagIds[reference] - 1;
+            }
+            System.arraycopy(storage.tagIds, keep, storage.tagIds, 0, size);
+            System.arraycopy(storage.references, keep, storage.references, 0, size);
+            storage.end = size;
+            storage.base += keep;
+            storage.retainTags();
+        } else {
+            storage.tagIds = Arrays.copyOf(storage.tagIds, storage.tagIds.length * 2);
+            storage.references = Arrays.copyOf(storage.references, storage.references.length * 2);
+        }
+    }
+
+    /**
+     * @return A source of random references for a new list, {@code null} if this list uses {@code ThreadLocalRandom}
+     */
+    private SplittableRandom split() {
+        return this.random == null ? null : this.random.split();
+    }
+
+    private static long arrayBytes(final int length, final int elementSize) {
+        // 16 byte array header, padded to 8 bytes
+        return (16L + (long) length * elementSize + 7) & ~7L;
+    }
+
+    /**
+     * @param size The number of tags in a map filled from empty, whose table starts at 16 and doubles past 3/4 full
+     * @return An estimate of the bytes used by the map, its table, its entries and their boxed indexes
+     */
+    private static long mapBytes(final int size) {
+        if(size == 0) return MAP_BYTES;
+        int capacity = 16;
+        while(size > capacity * 3L / 4) capacity *= 2;
+        return MAP_BYTES + arrayBytes(capacity, REFERENCE_BYTES) + (long) size * MAP_ENTRY_BYTES
+                + (long) Math.max(0, size - 128) * INTEGER_BYTES;
+    }
+
+    /* ---------------------------------- Storage Class ---------------------------------- **/
+
+    /**
+     * The nodes of a list and the views that start part way into it, guarded by its own monitor
+     */
+    private static final class Storage {
+
+        // constants
+        private static final int MIN_CAPACITY = 8;
+
+        // instance vars
+        /** the tag index of each node */
+        private int[] tagIds = new int[MIN_CAPACITY];
+        /** the position of the node each node references, or {@code -tagId - 1} for a dropped node */
+        private int[] references = new int[MIN_CAPACITY];
+        /** the index after the tail */
+        private int end;
+        /** the position of the node at index 0, counted from the first node ever pushed */
+        private long base;
+        /** the distinct tags of the nodes, by index, rebuilt whenever nodes are dropped */
+        private String[] tags = new String[MIN_CAPACITY];
+        private int tagCount;
+        private HashMap<String, Integer> tagIndexes = new HashMap<>();
+        /** the list the storage was made for, once it is no longer used only the list being pushed keeps nodes */
+        private WeakReference<CompactRandomLinkedList> owner;
+
+        /**
+         * @return The index of the tag, added to the table if it is new
+         */
+        private int intern(final String tag) {
+            final Integer index = tagIndexes.get(tag);
+            if(index != null) return index;
+            if(tagCount == tags.length) tags = Arrays.copyOf(tags, tagCount * 2);
+            tags[tagCount] = tag;
+            tagIndexes.put(tag, tagCount);
+            return tagCount++;
+        }
+
+        /**
+         * Rebuilds the table of tags with only the tags of the nodes left and of the dropped nodes they reference, so
+         * the table is no bigger than the nodes however many distinct tags have been pushed
+         */
+        private void retainTags() {
+            // the new index of each tag plus one, 0 for a tag no node uses any more
+            final int[] indexes = new int[tagCount];
+            int count = 0;
+            for(int node = 0; node < end; node++) {
+                if(indexes[tagIds[node]] == 0) indexes[tagIds[node]] = ++count;
+                final int reference = references[node];
+                if(reference < 0 && indexes[-reference - 1] == 0) indexes[-reference - 1] = ++count;
+            }
+            final String[] retained = new String[Math.max(MIN_CAPACITY, count * 2)];
+            tagIndexes = new HashMap<>();
+            for(int tagId = 0; tagId < tagCount; tagId++) {
+                if(indexes[tagId] == 0) continue;
+                retained[indexes[tagId] - 1] = tags[tagId];
+                tagIndexes.put(tags[tagId], indexes[tagId] - 1);
+            }
+            for(int node = 0; node < end; node++) {
+                tagIds[node] = indexes[tagIds[node]] - 1;
+                if(references[node] < 0) references[node] = -indexes[-references[node] - 1];
+            }
+            tags = retained;
+            tagCount = count;
+        }
+
+        private String tag(final int node) {
+            return tags[tagIds[node]];
+        }
+
+        private String referenceTag(final int node) {
+            final int reference = references[node];
+            return reference < 0 ? tags[-reference - 1] : tag(reference);
+        }
+
+    }
+
+    /* ---------------------------------- Node Iterator ---------------------------------- **/
+
+    @Override
+    public Iterator<String> iterator() {
+        return new CompactRandomLinkedListIterator(this);
+    }
+
+    static class CompactRandomLinkedListIterator implements Iterator<String> {
+
+        private final Storage storage;
+        private long node;
+
+        private CompactRandomLinkedListIterator(final CompactRandomLinkedList list) {
+            this.storage = list.storage;
+            synchronized (this.storage) {
+                this.node = list.first;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            synchronized (this.storage) {
+                return this.node < this.storage.base + this.storage.end;
+            }
+        }
+
+        @Override
+        public String next() {
+            synchronized (this.storage) {
+                if(!this.hasNext()) throw new NoSuchElementException();
+                // nodes dropped since the iterator was made are skipped
+                this.node = Math.max(this.node, this.storage.base);
+                return this.storage.tag((int) (this.node++ - this.storage.base));
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,272 @@
+package org.salerno.model.lists;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A lock-free queue that contains references to random nodes within the list, for many threads pushing and popping
+ * at once
+ * <br><br>
+ * The queue is a Michael-Scott queue: the head is a dummy node and both ends are moved with compare-and-set, so no
+ * thread ever waits on another. Each node is numbered as it is linked, so the length of the queue is the difference
+ * of the numbers at its ends. A node references a random node behind it that is still in the queue, picked from the
+ * last {@code REFERENCE_WINDOW} nodes pushed, so no shared index of every node is needed.
+ * <br><br>
+ * Popped nodes are reclaimed by the garbage collector, so a reference to one stays valid for as long as it is held
+ * and a node is never reused while another thread can see it, there is no ABA problem. So that holding a popped node
+ * does not hold every node pushed after it, a node leaves the queue with its next pointing to itself and its own
+ * reference dropped. A node in the queue keeps at most the one popped node it references alive, and the window of
+ * recent nodes at most {@code REFERENCE_WINDOW} more.
+ * <br><br>
+ * The contract is narrower than a {@link RandomLinkedList}, on purpose. There is no {@code getNext()} or
+ * {@code getReference()}, only {@link #peekReference()}: those return lists that share nodes with this one, and a
+ * shared node popped from one of them would be unlinked under the other, while keeping it linked would let a held node
+ * keep every node pushed after it alive. Copy the tags into a {@code RandomLinkedList} to walk them. And a node
+ * references a random node among the last {@code REFERENCE_WINDOW} pushed that are still in the queue rather than
+ * among every node, since a random node of the whole queue needs an index of every node that each push and pop would
+ * update, the one point every thread would contend on.
+ *
+ * @author alex.salerno@me.com
+ * @since Oct-2026
+ */
+public class ConcurrentRandomLinkedList implements Iterable<String> {
+
+    // constants
+    /** The number of most recently pushed nodes a new node may reference, a power of 2 */
+    static final int REFERENCE_WINDOW = 1024;
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+    private static final VarHandle NEXT;
+
+    static {
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(ConcurrentRandomLinkedList.class, "head", Node.class);
+            TAIL = lookup.findVarHandle(ConcurrentRandomLinkedList.class, "tail", Node.class);
+            NEXT = lookup.findVarHandle(Node.class, "next", Node.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // data structure vars
+    /** the dummy node before the 'top' of the queue */
+    private volatile Node head;
+    /** the 'bottom' of the queue, or the node before it while a push is finishing */
+    private volatile Node tail;
+    /** the most recently pushed nodes, by number */
+    private final AtomicReferenceArray<Node> recent = new AtomicReferenceArray<>(REFERENCE_WINDOW);
+
+    /* ---------------------------------- Constructor Methods ---------------------------------- **/
+
+    public ConcurrentRandomLinkedList() {
+        final Node dummy = new Node(null);
+        this.head = dummy;
+        this.tail = dummy;
+    }
+
+    /* ---------------------------------- Public Methods ---------------------------------- **/
+
+    /**
+     * @param tags A collection of strings that identify a node in the list
+     * @return A lock-free queue that contains references to random nodes within the list
+     */
+    public static ConcurrentRandomLinkedList asList(final String... tags) {
+        final ConcurrentRandomLinkedList list = new ConcurrentRandomLinkedList();
+        if(tags == null) return list;
+        for(String tag : tags) {
+            list.push(tag);
+        }
+        return list;
+    }
+
+    /**
+     * @param tag Pushes the tag into the queue
+     */
+    public void push(final String tag) {
+        if(tag == null) return;
+        final Node node = new Node(tag);
+        while(true) {
+            final Node last = this.tail;
+            final Node next = last.next;
+            if(last != this.tail) continue;
+            if(next == null) {
+                // number and reference the node before it can be seen, a failed link tries again
+                node.number = last.number + 1;
+                node.reference = this.getRandomNode(node);
+                if(NEXT.compareAndSet(last, null, node)) {
+                    TAIL.compareAndSet(this, last, node);
+                    this.recent.setRelease((int) (node.number & (REFERENCE_WINDOW - 1)), node);
+                    return;
+                }
+            } else {
+                // help a push that has linked its node but not yet moved the tail
+                TAIL.compareAndSet(this, last, next);
+            }
+        }
+    }
+
+    /**
+     * @return and removes the tag from the top of the queue
+     */
+    public String pop() {
+        while(true) {
+            final Node dummy = this.head;
+            final Node last = this.tail;
+            final Node first = dummy.next;
+            if(dummy != this.head) continue;
+            if(first == null) return "";
+            if(dummy == last) {
+                // the tail is behind, move it before the head passes it
+                TAIL.compareAndSet(this, last, first);
+            } else if(HEAD.compareAndSet(this, dummy, first)) {
+                // the first node is the new dummy, unlink the old one so it holds on to nothing
+                NEXT.setRelease(dummy, dummy);
+                dummy.reference = null;
+                return first.tag;
+            }
+        }
+    }
+
+    /**
+     * @return the tag of the element at the head of the queue but does not remove it
+     */
+    public String peek() {
+        while(true) {
+            final Node dummy = this.head;
+            final Node first = dummy.next;
+            if(dummy != this.head) continue;
+            return first == null ? "" : first.tag;
+        }
+    }
+
+    /**
+     * The node referenced may have been popped since, it keeps its tag.
+     *
+     * @return the tag of the node referenced by the element at the head of the queue, empty if the queue is empty
+     */
+    public String peekReference() {
+        while(true) {
+            final Node dummy = this.head;
+            final Node first = dummy.next;
+            if(first == null) return "";
+            final Node reference = first.reference;
+            // dropped when the node left the queue, it was popped while reading
+            if(dummy != this.head || reference == null) continue;
+            return reference.tag;
+        }
+    }
+
+    /**
+     * @return The number of elements in the queue, exact when no push or pop is in progress
+     */
+    public int size() {
+        while(true) {
+            final Node dummy = this.head;
+            Node last = this.tail;
+            if(dummy != this.head) continue;
+            // a push may have linked its node without moving the tail yet
+            final Node next = last.next;
+            if(next != null && next != last) last = next;
+            return (int) Math.min(Integer.MAX_VALUE, Math.max(0, last.number - dummy.number));
+        }
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder result = new StringBuilder("[");
+        for(String tag : this) {
+            result.append(tag).append(", ");
+        }
+        if(result.length() == 1) return "[]";
+        return result.substring(0, result.length()-2) + "]";
+    }
+
+    /* ---------------------------------- Private Methods ---------------------------------- **/
+
+    /**
+     * @param node The node being pushed, numbered one after the current tail
+     * @return A random node still in the queue among the last {@code REFERENCE_WINDOW} pushed, or the node itself
+     */
+    private Node getRandomNode(final Node node) {
+        final long from = Math.max(this.head.number + 1, node.number - REFERENCE_WINDOW + 1);
+        if(from >= node.number) return node;
+        final long number = ThreadLocalRandom.current().nextLong(from, node.number + 1);
+        if(number == node.number) return node;
+        // a slot may be behind, still holding an older node, or ahead, reused by a newer one
+        final Node candidate = this.recent.getAcquire((int) (number & (REFERENCE_WINDOW - 1)));
+        return candidate != null && candidate.number == number ? candidate : node;
+    }
+
+    /* ---------------------------------- Node Class ---------------------------------- **/
+
+    /**
+     * A single element in the queue
+     */
+    static final class Node {
+
+        // data structure vars
+        private volatile Node next;
+        private final String tag;
+        /** set before the node is linked, dropped once it has left the queue */
+        private volatile Node reference;
+        /** the position of the node in every node ever pushed, set before it is linked */
+        private long number;
+
+        private Node(final String tag) {
+            this.tag = tag;
+        }
+
+        String getTag() {
+            return tag;
+        }
+
+        Node getReference() {
+            return reference;
+        }
+
+    }
+
+    /* ---------------------------------- Node Iterator ---------------------------------- **/
+
+    /**
+     * The iterator is weakly consistent: it never fails, and sees each tag in the queue when it was made at most once
+     * along with some of those pushed since. Once it reaches a popped node it carries on from the head.
+     */
+    @Override
+    public Iterator<String> iterator() {
+        return new ConcurrentRandomLinkedListIterator(this);
+    }
+
+    static class ConcurrentRandomLinkedListIterator implements Iterator<String> {
+
+        private final ConcurrentRandomLinkedList list;
+        private Node node;
+
+        private ConcurrentRandomLinkedListIterator(final ConcurrentRandomLinkedList list) {
+            this.list = list;
+            this.node = list.head.next;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return node != null;
+        }
+
+        @Override
+        public String next() {
+            final Node result = this.node;
+            if(result == null) throw new NoSuchElementException();
+            final Node next = result.next;
+            // a node unlinked after being popped points to itself, the rest of the queue starts after the head
+            this.node = next == result ? this.list.head.next : next;
+            return result.tag;
+        }
+
+    }
+
+}
@@ -1,13 +1,20 @@
 package org.salerno.model.lists;
 
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.Iterator;
-import java.util.Random;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * A singly-linked queue that contains references to random nodes within the list
+ * <br><br>
+ * Each list keeps an index of its nodes in order, updated as tags are pushed and popped, so its length and a random
+ * node are found in O(1) and building a list of n tags is O(n). Each list is guarded by its own lock, so
+ * independent lists on different threads never wait on each other. A list returned by {@link #getNext()} or
+ * {@link #getReference()} starts part way into another list and shares its nodes and its lock. It is indexed the
+ * first time it is needed, and picks up the nodes pushed after its tail by a list it shares them with.
+ * <br><br>
+ * References are random from {@code ThreadLocalRandom}, or from a seed for a layout that is the same every run.
  *
  * @author alex.salerno@me.com
  * @since Aug-2022
@@ -20,22 +27,29 @@ public class RandomLinkedList implements Iterable<String> {
     /** the 'bottom' of the queue */
     Node tail;
 
-    // local cache
-    private static final Lock LOCK = new ReentrantLock();
-    private static final HashMap<String, Node> COPY_CACHE = new HashMap<>();
-    private static int size = -1;
-    private static Node currentNode = null;
+    // index vars
+    /** the nodes from the head to the tail, {@code null} until a list that starts part way into another is indexed */
+    private Node[] nodes;
+    /** the index of the head in {@code nodes} */
+    private int first;
+    /** the index after the tail in {@code nodes} */
+    private int last;
+    /** the source of random references, {@code null} to use {@code ThreadLocalRandom} */
+    private final SplittableRandom random;
+    /** guards the list and every list that shares its nodes */
+    private final Object lock;
 
     // constants
-    /**
-     * Maximum recursive copy depth to prevent {@code StackOverflowError} and save memory
-     */
-    private static final int MAX_COPY_DEPTH = 500;
+    /** marks a copy woven into the list by {@link #duplicateList} until its reference is set */
+    private static final Node WEAVING = new Node(null);
 
     /* ---------------------------------- Constructor Methods ---------------------------------- **/
 
-    private RandomLinkedList(final Node node) {
+    private RandomLinkedList(final Node node, final SplittableRandom random, final Object lock) {
         this.head = node;
+        this.nodes = node == null ? new Node[8] : null;
+        this.random = random;
+        this.lock = lock;
     }
 
     /* ---------------------------------- Public Methods ---------------------------------- **/
@@ -45,87 +59,97 @@ public class RandomLinkedList implements Iterable<String> {
      * @return A singly linked list that contains references to random nodes within the list
      */
     public static RandomLinkedList asList(final String... tags) {
-        final RandomLinkedList list = new RandomLinkedList(null);
-        if(tags == null) return list;
-
-        // create linked list
-        Node head = null;
-        Node current = null;
-        // for each tag, create a node and link it
-        for(String tag : tags) {
-            if(tag == null) continue;
-            if(head == null) {
-                head = new Node(tag);
-                current = head;
-                list.tail = head;
-            } else {
-                current.next = new Node(tag);
-                current = current.next;
-                list.tail = current;
-            }
-        }
+        return asList(null, tags);
+    }
 
-        if(head != null) {
-            list.head = head;
-            // randomly assign each node another node reference
-            synchronized (LOCK) {
-                for(Node node : head) {
-                    node.reference = list.getRandomNode();
-                }
-                clearSizeCache();
-            }
-        }
-        return list;
+    /**
+     * @param seed The seed of the random references, the same seed and tags give the same layout
+     * @param tags A collection of strings that identify a node in the list
+     * @return A singly linked list that contains references to random nodes within the list
+     */
+    public static RandomLinkedList asList(final long seed, final String... tags) {
+        return asList(new SplittableRandom(seed), tags);
     }
 
     /**
+     * Copies the list in O(n) with no map, so lists with repeated tags are copied correctly.
+     * <br><br>
+     * Each copy is woven in after its node, so the copy of a node's reference is the node after that reference, and
+     * the list is then unwoven. The nodes of the list are relinked while it is copied, under the lock it shares with
+     * the lists from {@link #getNext()} and {@link #getReference()}, so none of them sees the copies. Different lists
+     * are copied in parallel. A reference to a node that is no longer in the
+     * list, one that was popped or is before the start of a list part way into another, has no copy and is copied as
+     * {@code null}.
+     *
      * @param list A singly linked list that contains references to random nodes within the list
      * @return A duplicate copy of the list with no dependency on the original
      */
-    public static synchronized RandomLinkedList duplicateList(final RandomLinkedList list) {
-        if(list == null || list.head == null) return null;
-
-        // copy next
-        currentNode = list.head;
-        do {
-            deepCopy(currentNode, 1);
-        } while(currentNode.next != null);
-        // copy reference
-        for(Node node : list.head){
-            final Node copy = COPY_CACHE.get(node.tag);
-            copy.reference = COPY_CACHE.get(node.reference.tag);
+    public static RandomLinkedList duplicateList(final RandomLinkedList list) {
+        if(list == null) return null;
+        synchronized (list.lock) {
+            if(list.head == null) return null;
+            list.index();
+            final Node[] nodes = list.nodes;
+            final int first = list.first;
+            final int last = list.last;
+
+            // weave a copy after each node, marked as a copy until its reference is known
+            for(int i = first; i < last; i++) {
+                final Node copy = new Node(nodes[i].tag);
+                copy.reference = WEAVING;
+                nodes[i].next = copy;
+            }
+            // the copy of a reference is the node after it, held in the next of the copy so every mark stays in place
+            for(int i = first; i < last; i++) {
+                final Node reference = nodes[i].reference;
+                final Node copy = reference == null ? null : reference.next;
+                nodes[i].next.next = copy != null && copy.reference == WEAVING ? copy : null;
+            }
+            // unweave, indexing the copies as they are linked
+            final RandomLinkedList result = new RandomLinkedList(nodes[first].next, list.split(), new Object());
+            result.nodes = new Node[Math.max(last - first, 8)];
+            for(int i = first; i < last; i++) {
+                final Node node = nodes[i];
+                final Node copy = node.next;
+                final boolean isTail = i + 1 == last;
+                copy.reference = copy.next;
+                copy.next = isTail ? null : nodes[i + 1].next;
+                node.next = isTail ? null : nodes[i + 1];
+                result.append(copy);
+            }
+            result.tail = result.nodes[result.last - 1];
+            return result;
         }
-        // return results
-        final Node result = COPY_CACHE.get(list.head.tag);
-        clearDuplicateCache();
-        return new RandomLinkedList(result);
     }
 
     @Override
     public String toString() {
-        if(this.head == null) return "[]";
-        StringBuilder result = new StringBuilder("[");
-        for(Node node : this.head) {
-            result.append(node).append(", ");
+        synchronized (this.lock) {
+            if(this.head == null) return "[]";
+            StringBuilder result = new StringBuilder("[");
+            for(Node node : this.head) {
+                result.append(node).append(", ");
+            }
+            return result.substring(0,result.length()-2) + "]";
         }
-        return result.substring(0,result.length()-2) + "]";
     }
 
     /**
      * @param tag Pushes the tag into the queue
      */
     public void push(final String tag) {
-        final Node node = new Node(tag);
-        if(this.head == null) {
-            this.head = node;
-            this.tail = node;
-        } else {
-            this.tail.next = node;
-            this.tail = this.tail.next;
-        }
-        synchronized (LOCK) {
+        synchronized (this.lock) {
+            final Node node = new Node(tag);
+            this.index();
+            if(this.head == null) {
+                this.head = node;
+                this.tail = node;
+            } else {
+                this.tail.next = node;
+                this.tail = this.tail.next;
+            }
+            this.append(node);
             node.reference = getRandomNode();
-            clearSizeCache();
         }
     }
 
@@ -133,112 +157,153 @@ public class RandomLinkedList implements Iterable<String> {
      * @return and removes the tag from the top of the queue
      */
     public String pop() {
-        if(this.head == null) return "";
-        final String tag = this.head.tag;
-        this.head = this.head.next;
-        return tag;
+        synchronized (this.lock) {
+            if(this.head == null) return "";
+            // the nodes a list sharing them pushed after the tail are indexed before the head moves past them
+            this.index();
+            final String tag = this.head.tag;
+            this.head = this.head.next;
+            if(this.head == null) this.tail = null;
+            // drop the node from the index, starting again at the front once it is empty
+            this.nodes[this.first++] = null;
+            if(this.first == this.last) this.first = this.last = 0;
+            return tag;
+        }
     }
 
     /**
      * @return the tag of the element at the head of the queue but does not remove it
      */
     public String peek() {
-        if(this.head != null) return this.head.tag;
-        return "";
+        synchronized (this.lock) {
+            if(this.head != null) return this.head.tag;
+            return "";
+        }
     }
 
     /**
      * @return The next {@code Node} in the queue
      */
     public RandomLinkedList getNext() {
-        if(this.head != null) return new RandomLinkedList(this.head.next);
-        return null;
+        synchronized (this.lock) {
+            if(this.head != null) return new RandomLinkedList(this.head.next, this.split(), this.lock);
+            return null;
+        }
     }
 
     /**
      * @return The {@code Node} that is referenced by this {@code Node}
      */
     public RandomLinkedList getReference() {
-        if(this.head != null) return new RandomLinkedList(this.head.reference);
-        return null;
+        synchronized (this.lock) {
+            if(this.head != null) return new RandomLinkedList(this.head.reference, this.split(), this.lock);
+            return null;
+        }
     }
 
     /**
      * @return The number of elements in the queue
      */
     public int size() {
-        int result;
-        synchronized (LOCK) {
-            this.calculateSize();
-            result = size;
-            clearSizeCache();
+        synchronized (this.lock) {
+            this.index();
+            return this.last - this.first;
         }
-        return result;
     }
 
     /* ---------------------------------- Private Methods ---------------------------------- **/
 
     /**
-     * A recursive function that creates a deep copy of a given {@code Node} with no dependencies on the original.
-     * <br><br>Java does not support tail-recursion so there is a maximum depth of {@code MAX_COPY_DEPTH}.
-     * If the maximum depth is reached, current location is stored in cache {@code currentNode} and the recursion
-     * stack frames are reset. The copy can be continued by calling {@code deepCopy} again with the cached {@code currentNode}.
-     * This also guarantees a small memory footprint.
-     *
-     * @param node The node to copy
-     * @param depth The current recursive depth, compared to {@code MAX_COPY_DEPTH}
-     * @return A copy of the node with no dependencies on the original
+     * @param random The source of random references, {@code null} to use {@code ThreadLocalRandom}
+     * @param tags A collection of strings that identify a node in the list
+     * @return A singly linked list that contains references to random nodes within the list
      */
-    private static Node deepCopy(final Node node, final int depth) {
-        currentNode = node; // cache current location in list
-        if(currentNode == null || depth > MAX_COPY_DEPTH) return null;
-        // copy node
-        final Node copy = new Node(currentNode.tag);
-        COPY_CACHE.put(copy.tag, copy);
-        // copy 'next' node
-        if(currentNode.next == null) return copy;
-        else copy.next = deepCopy(currentNode.next, depth+1);
-
-        return copy;
+    private static RandomLinkedList asList(final SplittableRandom random, final String... tags) {
+        final RandomLinkedList list = new RandomLinkedList(null, random, new Object());
+        if(tags == null) return list;
+
+        // create linked list
+        list.nodes = new Node[Math.max(tags.length, 8)];
+        Node head = null;
+        Node current = null;
+        // for each tag, create a node and link it
+        for(String tag : tags) {
+            if(tag == null) continue;
+            if(head == null) {
+                head = new Node(tag);
+                current = head;
+                list.tail = head;
+            } else {
+                current.next = new Node(tag);
+                current = current.next;
+                list.tail = current;
+            }
+            list.append(current);
+        }
+
+        if(head != null) {
+            list.head = head;
+            // randomly assign each node another node reference, the list is not shared yet so there is no lock
+            for(Node node : head) {
+                node.reference = list.getRandomNode();
+            }
+        }
+        return list;
     }
 
     /**
      * @return A random node from the list
      */
     private Node getRandomNode() {
-        // get node total
-        if(size == -1) { this.calculateSize(); }
+        final int size = this.last - this.first;
         if(size == 0) return null;
-        // select random node
-        Node current = this.head;
-        Random rand = new Random();
-        for(int i = rand.nextInt(size); i>0; i--) {
-            current = current.next;
-        }
-        return current;
+        final int offset = this.random == null ? ThreadLocalRandom.current().nextInt(size) : this.random.nextInt(size);
+        return this.nodes[this.first + offset];
     }
 
     /**
-     * Calculates the size of the list and stores it in a cache
+     * Adds a node after the tail of the index, making room when it is full
+     *
+     * @param node The new tail
      */
-    private synchronized void calculateSize() {
-        size = 0;
-        if(this.head == null) return;
-        for(Node ignored : this.head) {
-            size += 1;
+    private void append(final Node node) {
+        if(this.last == this.nodes.length) {
+            final int size = this.last - this.first;
+            // slide the nodes to the front if popping has freed at least half, else grow
+            final Node[] target = size * 2 <= this.nodes.length ? this.nodes : new Node[this.nodes.length * 2];
+            System.arraycopy(this.nodes, this.first, target, 0, size);
+            if(target == this.nodes) Arrays.fill(this.nodes, size, this.last, null);
+            this.nodes = target;
+            this.first = 0;
+            this.last = size;
         }
+        this.nodes[this.last++] = node;
     }
 
     /**
-     * Clears duplication cached values
+     * Brings the index up to date. A list that starts part way into another list is indexed the first time, and any
+     * list picks up the nodes a list sharing them has pushed after its tail, so only new nodes are walked.
      */
-    private static void clearDuplicateCache() {
-        COPY_CACHE.clear();
-        currentNode = null;
+    private void index() {
+        if(this.nodes == null) {
+            this.nodes = new Node[8];
+            this.first = this.last = 0;
+            this.tail = this.head;
+            if(this.head == null) return;
+            this.append(this.head);
+        }
+        if(this.tail == null) return;
+        while(this.tail.next != null) {
+            this.tail = this.tail.next;
+            this.append(this.tail);
+        }
     }
 
-    private static void clearSizeCache() {
-        size = -1;
+    /**
+     * @return A source of random references for a new list, {@code null} if this list uses {@code ThreadLocalRandom}
+     */
+    private SplittableRandom split() {
+        return this.random == null ? null : this.random.split();
     }
 
     /* ---------------------------------- Node Class ---------------------------------- **/
@@ -271,6 +336,7 @@ public class RandomLinkedList implements Iterable<String> {
 
         @Override
         public String toString() {
+            if(this.reference == null) return this.tag + "@" + hashCode() + "->null";
             return this.tag + "@" + hashCode() + "->" + this.reference.tag + "@" + this.reference.hashCode();
         }
 
@@ -0,0 +1,202 @@
+package org.salerno.model.trees;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A read-only Search Tree that finds words and partial words, stored in flat primitive arrays.
+ * <br><br>
+ * Every node is an {@code int} index. The children of node {@code n} are the edges
+ * {@code [firstEdge[n], firstEdge[n+1])}, each edge has a character in {@code labels} and a destination node in
+ * {@code targets}, and the labels of a node are sorted so a child is found with a binary search. Word ends are a
+ * bit set. There are no per-node objects or boxed characters, so the tree costs roughly 10 bytes per node instead
+ * of the hundreds of bytes used by the HashMap backed {@link WordSearchTree}.
+ *
+ * @author alex.salerno@me.com
+ * @since Oct-2026
+ */
+public final class CompactWordSearchTree extends IndexedWordSearch {
+
+    // data structure vars
+    /** Offset of the first edge of each node, with one trailing entry marking the end of the last node */
+    final int[] firstEdge;
+    /** Character of each edge, sorted within a node */
+    final char[] labels;
+    /** Destination node of each edge */
+    final int[] targets;
+    /** Bit set of the nodes that end a word */
+    final long[] wordEnds;
+
+    /* ---------------------------------- Constructor Methods ---------------------------------- **/
+
+    CompactWordSearchTree(final int[] firstEdge, final char[] labels, final int[] targets, final long[] wordEnds) {
+        this.firstEdge = firstEdge;
+        this.labels = labels;
+        this.targets = targets;
+        this.wordEnds = wordEnds;
+    }
+
+    /* ---------------------------------- Public Methods ---------------------------------- **/
+
+    /**
+     * @param wordList A list of words, such as a lexicon or dictionary, that populate the tree for searching
+     * @return {@code CompactWordSearchTree} instance
+     */
+    public static CompactWordSearchTree asTree(final HashSet<String> wordList) {
+        if(wordList == null) return null;
+        return of(WordSearchTree.asTree(wordList));
+    }
+
+    /**
+     * Copies a {@code WordSearchTree} into flat arrays. Nodes that are shared within the source tree stay shared.
+     *
+     * @param tree The tree to copy
+     * @return {@code CompactWordSearchTree} instance
+     */
+    public static CompactWordSearchTree of(final WordSearchTree tree) {
+        if(tree == null) return null;
+
+        final IdentityHashMap<WordSearchTree.Node, Integer> indexes = new IdentityHashMap<>();
+        final ArrayList<WordSearchTree.Node> nodes = new ArrayList<>();
+        nodes.add(null); // the root is the tree's rootCache
+        int[] firstEdge = new int[64];
+        char[] labels = new char[64];
+        int[] targets = new int[64];
+        long[] wordEnds = new long[1];
+        int edgeCount = 0;
+
+        // nodes are numbered breadth first, so visiting them in index order writes the edges of each node together
+        for(int node = ROOT; node < nodes.size(); node++) {
+            final TreeMap<Character, WordSearchTree.Node> children = new TreeMap<>();
+            if(node == ROOT) children.putAll(tree.rootCache);
+            else nodes.get(node).forEachChild(children::put);
+
+            if(node + 1 >= firstEdge.length) firstEdge = Arrays.copyOf(firstEdge, firstEdge.length * 2);
+            firstEdge[node] = edgeCount;
+            for(Map.Entry<Character, WordSearchTree.Node> child : children.entrySet()) {
+                Integer index = indexes.get(child.getValue());
+                if(index == null) {
+                    index = nodes.size();
+                    indexes.put(child.getValue(), index);
+                    nodes.add(child.getValue());
+                    if(index >>> 6 >= wordEnds.length) wordEnds = Arrays.copyOf(wordEnds, wordEnds.length * 2);
+                    if(child.getValue().isWordEnd()) wordEnds[index >>> 6] |= 1L << index;
+                }
+                if(edgeCount == labels.length) {
+                    labels = Arrays.copyOf(labels, labels.length * 2);
+                    targets = Arrays.copyOf(targets, targets.length * 2);
+                }
+                labels[edgeCount] = child.getKey();
+                targets[edgeCount] = index;
+                edgeCount++;
+            }
+        }
+        final int nodeCount = nodes.size();
+        firstEdge[nodeCount] = edgeCount;
+
+        return new CompactWordSearchTree(
+                Arrays.copyOf(firstEdge, nodeCount + 1),
+                Arrays.copyOf(labels, edgeCount),
+                Arrays.copyOf(targets, edgeCount),
+                Arrays.copyOf(wordEnds, (nodeCount + 63) >>> 6));
+    }
+
+    /**
+     * Writes the tree to a snapshot file that can be reopened with {@link MappedWordSearchTree#open(Path)}.
+     * <br><br>
+     * The snapshot is written to a new file next to it and then moved over the path in one step, so an existing file
+     * is replaced, never rewritten. Trees that have the old file mapped keep reading the old snapshot, and a tree
+     * opened after the move reads the new one.
+     *
+     * @param path The snapshot file
+     * @throws IOException if the file cannot be written, or cannot be replaced in one step
+     */
+    public void save(final Path path) throws IOException {
+        final Path directory = path.toAbsolutePath().getParent();
+        final Path temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                out.writeInt(MappedWordSearchTree.MAGIC);
+                out.writeInt(MappedWordSearchTree.VERSION);
+                out.writeInt(nodeCount());
+                out.writeInt(labels.length);
+                for(int offset : firstEdge) out.writeInt(offset);
+                for(int target : targets) out.writeInt(target);
+                for(long bits : wordEnds) out.writeLong(bits);
+                for(char label : labels) out.writeChar(label);
+            }
+            Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * @return The number of nodes in the tree, including the root
+     */
+    public int nodeCount() {
+        return firstEdge.length - 1;
+    }
+
+    /**
+     * @return The number of bytes used by the backing arrays, including array headers
+     */
+    public long sizeInBytes() {
+        return arrayBytes(firstEdge.length, Integer.BYTES)
+                + arrayBytes(labels.length, Character.BYTES)
+                + arrayBytes(targets.length, Integer.BYTES)
+                + arrayBytes(wordEnds.length, Long.BYTES);
+    }
+
+    /* ---------------------------------- Node Methods ---------------------------------- **/
+
+    /**
+     * @param node A node index
+     * @param character A lowercase character
+     * @return The index of the child that uses the given character, or {@code NOT_FOUND}
+     */
+    @Override
+    int child(final int node, final char character) {
+        int low = firstEdge[node];
+        int high = firstEdge[node + 1] - 1;
+        while(low <= high) {
+            final int mid = (low + high) >>> 1;
+            final char label = labels[mid];
+            if(label < character) low = mid + 1;
+            else if(label > character) high = mid - 1;
+            else return targets[mid];
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * @param node A node index
+     * @return {@code True} if the node is the end of a word, else {@code False}
+     */
+    @Override
+    boolean isWordEnd(final int node) {
+        return (wordEnds[node >>> 6] & (1L << node)) != 0;
+    }
+
+    /* ---------------------------------- Private Methods ---------------------------------- **/
+
+    /**
+     * @param length Number of elements
+     * @param elementSize Size of one element in bytes
+     * @return Size of the array in bytes, assuming a 16 byte header and 8 byte alignment
+     */
+    private static long arrayBytes(final int length, final int elementSize) {
+        return (16L + (long) length * elementSize + 7) & ~7L;
+    }
+
+}
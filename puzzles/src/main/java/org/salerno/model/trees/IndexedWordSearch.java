@@ -0,0 +1,131 @@
+package org.salerno.model.trees;
+
+import java.util.Arrays;
+
+/**
+ * A {@code WordSearch} whose nodes are {@code int} indexes, the root being {@link #ROOT}. Subclasses only
+ * provide the edges and word ends, searching and cursors are shared.
+ *
+ * @author alex.salerno@me.com
+ * @since Oct-2026
+ */
+abstract class IndexedWordSearch implements WordSearch {
+
+    /** Index of the root node, the root represents the empty string */
+    static final int ROOT = 0;
+    /** Returned when a node has no child for a character */
+    static final int NOT_FOUND = -1;
+
+    /* ---------------------------------- Public Methods ---------------------------------- **/
+
+    /**
+     * @param word A word
+     * @return {@code True} if the word is found in the Tree, else {@code False}
+     */
+    @Override
+    public final boolean isWord(final String word) {
+        final int node = findNodeByWord(word);
+        return node != NOT_FOUND && isWordEnd(node);
+    }
+
+    /**
+     * Searches the tree for a partial match against the given word. A partial match means that the given word
+     * is a substring of a complete word.
+     *
+     * @param word A word
+     * @return {@code True} if the partial word is found in the Tree, else {@code False}
+     */
+    @Override
+    public final boolean isPartialWord(final String word) {
+        return findNodeByWord(word) != NOT_FOUND;
+    }
+
+    @Override
+    public final WordSearch.Cursor cursor() {
+        return new Cursor(this);
+    }
+
+    /* ---------------------------------- Node Methods ---------------------------------- **/
+
+    /**
+     * @param node A node index
+     * @param character A lowercase character
+     * @return The index of the child that uses the given character, or {@code NOT_FOUND}
+     */
+    abstract int child(int node, char character);
+
+    /**
+     * @param node A node index
+     * @return {@code True} if the node is the end of a word, else {@code False}
+     */
+    abstract boolean isWordEnd(int node);
+
+    /**
+     * @param word A word
+     * @return The index of the final node that references the given word, or {@code NOT_FOUND}
+     */
+    final int findNodeByWord(final String word) {
+        if(word == null || word.length() == 0) return NOT_FOUND;
+
+        int node = ROOT;
+        for(int i = 0; i < word.length() && node != NOT_FOUND; i++) {
+            node = child(node, WordSearchTree.toLowerCase(word.charAt(i)));
+        }
+        return node;
+    }
+
+    /* ---------------------------------- Cursor Class ---------------------------------- **/
+
+    /**
+     * A {@code WordSearch.Cursor} that keeps the node index of every character walked
+     */
+    static final class Cursor implements WordSearch.Cursor {
+
+        // instance vars
+        private final IndexedWordSearch search;
+        private int[] path = new int[32];
+        private int depth = 0;
+
+        private Cursor(final IndexedWordSearch search) {
+            this.search = search;
+            this.path[0] = ROOT;
+        }
+
+        @Override
+        public boolean next(final char character) {
+            final int node = search.child(path[depth], WordSearchTree.toLowerCase(character));
+            if(node == NOT_FOUND) return false;
+            if(depth + 1 == path.length) path = Arrays.copyOf(path, path.length * 2);
+            path[++depth] = node;
+            return true;
+        }
+
+        @Override
+        public void back() {
+            if(depth == 0) throw new IllegalStateException("Cursor is before the first character");
+            depth--;
+        }
+
+        @Override
+        public boolean isWord() {
+            return depth > 0 && search.isWordEnd(path[depth]);
+        }
+
+        @Override
+        public boolean isPartialWord() {
+            return depth > 0;
+        }
+
+        @Override
+        public int depth() {
+            return depth;
+        }
+
+        @Override
+        public void reset() {
+            depth = 0;
+        }
+
+    }
+
+}
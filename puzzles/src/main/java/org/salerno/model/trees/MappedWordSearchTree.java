@@ -0,0 +1,134 @@
+package org.salerno.model.trees;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A read-only Search Tree that finds words and partial words directly in a memory-mapped snapshot file.
+ * <br><br>
+ * Snapshots are written with {@link WordSearchTree#save(Path)} or {@link CompactWordSearchTree#save(Path)}.
+ * Opening one only maps the file, nothing is parsed or copied onto the heap, so startup takes constant time and
+ * every JVM on a host that opens the same file shares one copy of it in the page cache.
+ * <br><br>
+ * A snapshot is never rewritten once saved: saving again over the same path writes a new file and moves it in place
+ * of the old one. A tree keeps reading the snapshot it opened, however often the path is saved over, and a tree
+ * opened afterwards reads the latest. Writing into a mapped snapshot by any other means crashes every JVM reading it.
+ * <br><br>
+ * The file uses the {@code CompactWordSearchTree} layout, big-endian:
+ * <pre>
+ * int magic, int version, int nodeCount, int edgeCount
+ * int[nodeCount + 1] firstEdge
+ * int[edgeCount] targets
+ * long[(nodeCount + 63) / 64] wordEnds
+ * char[edgeCount] labels
+ * </pre>
+ * Snapshots are limited to 2GB.
+ *
+ * @author alex.salerno@me.com
+ * @since Oct-2026
+ */
+public final class MappedWordSearchTree extends IndexedWordSearch {
+
+    // constants
+    /** Identifies a snapshot file, "WSTR" */
+    static final int MAGIC = 0x57535452;
+    /** Version of the snapshot layout, increased whenever the layout changes */
+    static final int VERSION = 1;
+    /** Size of the header in bytes */
+    private static final int HEADER_BYTES = 4 * Integer.BYTES;
+
+    // instance vars
+    private final ByteBuffer buffer;
+    private final int nodeCount;
+    private final int firstEdgeOffset;
+    private final int targetsOffset;
+    private final int wordEndsOffset;
+    private final int labelsOffset;
+
+    /* ---------------------------------- Constructor Methods ---------------------------------- **/
+
+    private MappedWordSearchTree(final ByteBuffer buffer, final int nodeCount, final int edgeCount) {
+        this.buffer = buffer;
+        this.nodeCount = nodeCount;
+        this.firstEdgeOffset = HEADER_BYTES;
+        this.targetsOffset = firstEdgeOffset + (nodeCount + 1) * Integer.BYTES;
+        this.wordEndsOffset = targetsOffset + edgeCount * Integer.BYTES;
+        this.labelsOffset = wordEndsOffset + ((nodeCount + 63) >>> 6) * Long.BYTES;
+    }
+
+    /* ---------------------------------- Public Methods ---------------------------------- **/
+
+    /**
+     * @param path A snapshot file
+     * @return {@code MappedWordSearchTree} instance that searches the file
+     * @throws IOException if the file cannot be read, or is not a snapshot of a supported version
+     */
+    public static MappedWordSearchTree open(final Path path) throws IOException {
+        final ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if(channel.size() > Integer.MAX_VALUE) throw new IOException("Snapshot is larger than 2GB: " + path);
+            // the mapping stays valid after the channel is closed
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        if(buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a word search snapshot: " + path);
+        }
+        final int version = buffer.getInt(Integer.BYTES);
+        if(version != VERSION) {
+            throw new IOException("Unsupported snapshot version " + version + ", expected " + VERSION + ": " + path);
+        }
+        final int nodeCount = buffer.getInt(2 * Integer.BYTES);
+        final int edgeCount = buffer.getInt(3 * Integer.BYTES);
+        final long expected = HEADER_BYTES
+                + (nodeCount + 1L) * Integer.BYTES
+                + (long) edgeCount * Integer.BYTES
+                + ((nodeCount + 63L) >>> 6) * Long.BYTES
+                + (long) edgeCount * Character.BYTES;
+        if(nodeCount < 1 || edgeCount < 0 || expected != buffer.capacity()) {
+            throw new IOException("Corrupt word search snapshot: " + path);
+        }
+        return new MappedWordSearchTree(buffer, nodeCount, edgeCount);
+    }
+
+    /**
+     * @return The number of nodes in the tree, including the root
+     */
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    /* ---------------------------------- Node Methods ---------------------------------- **/
+
+    /**
+     * @param node A node index
+     * @param character A lowercase character
+     * @return The index of the child that uses the given character, or {@code NOT_FOUND}
+     */
+    @Override
+    int child(final int node, final char character) {
+        int low = buffer.getInt(firstEdgeOffset + node * Integer.BYTES);
+        int high = buffer.getInt(firstEdgeOffset + (node + 1) * Integer.BYTES) - 1;
+        while(low <= high) {
+            final int mid = (low + high) >>> 1;
+            final char label = buffer.getChar(labelsOffset + mid * Character.BYTES);
+            if(label < character) low = mid + 1;
+            else if(label > character) high = mid - 1;
+            else return buffer.getInt(targetsOffset + mid * Integer.BYTES);
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * @param node A node index
+     * @return {@code True} if the node is the end of a word, else {@code False}
+     */
+    @Override
+    boolean isWordEnd(final int node) {
+        return (buffer.getLong(wordEndsOffset + (node >>> 6) * Long.BYTES) & (1L << node)) != 0;
+    }
+
+}
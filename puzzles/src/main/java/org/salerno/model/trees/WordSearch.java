@@ -0,0 +1,88 @@
+package org.salerno.model.trees;
+
+/**
+ * A searchable lexicon that finds words and partial words.
+ * <br><br>
+ * Implementations differ only in how the lexicon is stored, lookups are case-insensitive and an empty or
+ * {@code null} word never matches.
+ *
+ * @author alex.salerno@me.com
+ * @since Oct-2026
+ */
+public interface WordSearch {
+
+    /**
+     * @param word A word
+     * @return {@code True} if the word is found in the lexicon, else {@code False}
+     */
+    boolean isWord(String word);
+
+    /**
+     * @param word A word
+     * @return {@code True} if the word is the beginning of at least one word in the lexicon, else {@code False}
+     */
+    boolean isPartialWord(String word);
+
+    /**
+     * @return A new {@code Cursor} positioned before the first character
+     */
+    Cursor cursor();
+
+    /**
+     * Lets callers that derive data from the lexicon know when to derive it again.
+     *
+     * @return A number that changes whenever a word is added or removed, always 0 for a lexicon that can not change
+     */
+    default long version() {
+        return 0;
+    }
+
+    /* ---------------------------------- Cursor Interface ---------------------------------- **/
+
+    /**
+     * Walks the lexicon one character at a time. Searches that extend a word a character at a time, such as a
+     * Boggle solver, keep a cursor alongside their own state instead of searching for every prefix from the start.
+     * <br><br>
+     * Moving a cursor does not allocate, except to grow its internal stack the first time a depth is reached.
+     * A cursor is not thread-safe, but any number of cursors can walk the same lexicon at the same time.
+     */
+    interface Cursor {
+
+        /**
+         * Moves forward to the given character if the result is still a partial word, else stays where it is.
+         *
+         * @param character The next character, in any case
+         * @return {@code True} if the cursor moved, else {@code False}
+         */
+        boolean next(char character);
+
+        /**
+         * Moves back one character, undoing the last successful {@link #next(char)}
+         *
+         * @throws IllegalStateException if the cursor is before the first character
+         */
+        void back();
+
+        /**
+         * @return {@code True} if the characters walked so far are a word, else {@code False}
+         */
+        boolean isWord();
+
+        /**
+         * @return {@code True} if the characters walked so far are the beginning of a word, else {@code False}
+         */
+        boolean isPartialWord();
+
+        /**
+         * @return The number of characters walked so far
+         */
+        int depth();
+
+        /**
+         * Moves back before the first character
+         */
+        void reset();
+
+    }
+
+}
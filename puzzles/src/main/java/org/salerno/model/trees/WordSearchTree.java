@@ -1,20 +1,52 @@
 package org.salerno.model.trees;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * A Search Tree that finds words and partial words.
  * <br><br>
  * Some performance considerations: To maximize performance search for partial words in the tree and do not continue
- * searching if the partial word does not return a match. This allows branch trimming. Backed by HashMaps.
+ * searching if the partial word does not return a match. This allows branch trimming. Each node keeps its 'a' to 'z'
+ * children in a fixed array and any other characters in a ConcurrentHashMap.
+ * For a read-only lexicon with a much smaller heap footprint see {@link CompactWordSearchTree}.
+ * <br><br>
+ * Thread safety: once built the tree can be read by any number of threads while another thread calls
+ * {@link #add(String)} and {@link #remove(String)}. Reads never lock or wait, updates are serialized with each
+ * other. A read that runs during an update sees the word either before or after the update.
  *
  * @author alex.salerno@me.com
  * @since Aug-2022
  */
-public class WordSearchTree {
+public class WordSearchTree implements WordSearch {
+
+    final ConcurrentHashMap<Character, Node> rootCache = new ConcurrentHashMap<>();
 
-    final HashMap<Character, Node> rootCache = new HashMap<>();
+    // instance vars
+    /** Serializes updates, reads do not use it */
+    private final Object updateLock = new Object();
+    /** Graphs share nodes between words so they can not be updated */
+    private boolean isGraph = false;
+    /** Counts the words added and removed since the tree was built */
+    private volatile long version;
 
     /* ---------------------------------- Constructor Methods ---------------------------------- **/
 
@@ -34,29 +66,241 @@ public class WordSearchTree {
 
         // for each word
         for(String word : wordList) {
-            // get each character
-            final char[] chars = word.toLowerCase().toCharArray();
-            // key off first letter
-            Node root = tree.rootCache.get(chars[0]);
-            if(root == null) {
-                root = new Node();
-                tree.rootCache.put(chars[0], root);
+            tree.insert(word);
+        }
+
+        return tree;
+    }
+
+    /**
+     * Builds a tree for type-ahead where every word has a weight, such as how often it is used. Weights are
+     * ranked by {@link #complete(String, int)}, words that differ only by case keep the highest weight.
+     *
+     * @param weightedWords Words and their weights, weights can not be negative
+     * @return {@code WordSearchTree} instance
+     * @throws IllegalArgumentException if a weight is negative or {@code null}
+     */
+    public static WordSearchTree asTree(final Map<String, Long> weightedWords) {
+        if(weightedWords == null) return null;
+        final WordSearchTree tree = new WordSearchTree();
+
+        for(Map.Entry<String, Long> entry : weightedWords.entrySet()) {
+            final Long weight = entry.getValue();
+            if(weight == null || weight < 0) {
+                throw new IllegalArgumentException("Invalid weight " + weight + " for '" + entry.getKey() + "'");
             }
+            tree.insert(entry.getKey(), weight);
+        }
+
+        return tree;
+    }
+
+    /**
+     * Builds the tree while the words are being produced, without collecting them first.
+     *
+     * @param words A stream of words, such as the lines of a lexicon, that populate the tree for searching
+     * @return {@code WordSearchTree} instance
+     */
+    public static WordSearchTree asTree(final Stream<String> words) {
+        if(words == null) return null;
+        final WordSearchTree tree = new WordSearchTree();
+        words.sequential().forEach(tree::insert);
+        return tree;
+    }
+
+    /**
+     * @param reader A reader with one word per line, it is read to the end but not closed
+     * @return {@code WordSearchTree} instance
+     * @throws IOException if the reader fails
+     */
+    public static WordSearchTree asTree(final Reader reader) throws IOException {
+        if(reader == null) return null;
+        final BufferedReader lines = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+        final WordSearchTree tree = new WordSearchTree();
+        String line = lines.readLine();
+        while(line != null) {
+            tree.insert(line);
+            line = lines.readLine();
+        }
+        return tree;
+    }
+
+    /**
+     * @param path A UTF-8 text file with one word per line
+     * @return {@code WordSearchTree} instance
+     * @throws IOException if the file cannot be read
+     */
+    public static WordSearchTree asTree(final Path path) throws IOException {
+        if(path == null) return null;
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return asTree(reader);
+        }
+    }
+
+    /**
+     * Builds the tree on the common {@code ForkJoinPool}. Words are grouped by their first letter, each group is
+     * built into its own {@code rootCache} bucket by a separate task and the buckets are merged at the end.
+     * Build time scales with the number of cores up to the number of distinct first letters.
+     * <br><br>
+     * Unlike {@link #asTree(Stream)} every word is held in memory until its bucket is built. A parallel stream
+     * also spreads the grouping across cores.
+     *
+     * @param words A stream of words that populate the tree for searching
+     * @return {@code WordSearchTree} instance
+     */
+    public static WordSearchTree asParallelTree(final Stream<String> words) {
+        if(words == null) return null;
+        final WordSearchTree tree = new WordSearchTree();
+
+        // group by first letter
+        final Map<Character, List<char[]>> buckets = words
+                .filter(word -> word != null && word.length() > 0)
+                .map(WordSearchTree::toLowerCase)
+                .collect(Collectors.groupingByConcurrent(chars -> chars[0]));
+        // build each bucket separately
+        final Map<Character, Node> roots = buckets.entrySet().parallelStream().collect(Collectors.toConcurrentMap(
+                Map.Entry::getKey,
+                bucket -> {
+                    final Node root = new Node();
+                    for(char[] chars : bucket.getValue()) {
+                        root.addWord(chars, 0);
+                    }
+                    return root;
+                }));
+        tree.rootCache.putAll(roots);
+
+        return tree;
+    }
+
+    /**
+     * Builds a minimal acyclic word graph (DAWG) instead of a tree. Words that end the same way share the nodes
+     * of their suffix, so large lexicons use a fraction of the nodes of {@link #asTree(HashSet)}.
+     * <br><br>
+     * The graph is built incrementally: once a word is added only the nodes of its suffix that differ from the
+     * next word are kept aside, so memory during construction is bounded by the size of the final graph.
+     * This requires the words to be sorted in lowercase order, such as
+     * {@code words.stream().map(String::toLowerCase).sorted()}. Repeated words are ignored.
+     *
+     * @param sortedWords Words sorted in lowercase order
+     * @return {@code WordSearchTree} instance backed by a graph
+     * @throws IllegalArgumentException if the words are not sorted
+     */
+    public static WordSearchTree asGraph(final Iterable<String> sortedWords) {
+        if(sortedWords == null) return null;
+        final WordSearchTree tree = new WordSearchTree();
+        final HashMap<Signature, Node> register = new HashMap<>();
+        // nodes of the previous word that are not yet minimized, path[i] is reached by the (i+1)th character
+        final ArrayList<Node> path = new ArrayList<>();
+        final Node root = new Node();
+        String previous = "";
+
+        for(Iterator<String> iterator = sortedWords.iterator(); iterator.hasNext(); ) {
+            final String next = iterator.next();
+            if(next == null || next.length() == 0) continue;
+            final String word = String.valueOf(toLowerCase(next));
+            final int order = word.compareTo(previous);
+            if(order == 0) continue;
+            if(order < 0) throw new IllegalArgumentException("Words are not sorted: '" + word + "' after '" + previous + "'");
+
+            // minimize the part of the previous word that is not shared with this word
+            int prefix = 0;
+            while(prefix < previous.length() && prefix < word.length() && previous.charAt(prefix) == word.charAt(prefix)) prefix++;
+            minimize(register, root, path, previous, prefix);
             // add the rest of the characters
-            Node node = root;
-            for(int i = 1; i < chars.length; i++) {
-                node = node.addChild(chars[i]);
+            Node node = prefix == 0 ? root : path.get(prefix - 1);
+            for(int i = prefix; i < word.length(); i++) {
+                node = node.addChild(word.charAt(i));
+                path.add(node);
             }
             node.isWordEnd = true;
+            previous = word;
         }
+        minimize(register, root, path, previous, 0);
 
+        root.forEachChild(tree.rootCache::put);
+        tree.isGraph = true;
         return tree;
     }
 
+    /**
+     * Adds a word to the live tree, without blocking readers.
+     *
+     * @param word A word, {@code null} and empty words are ignored
+     * @throws UnsupportedOperationException if the tree is a graph built by {@link #asGraph(Iterable)}
+     */
+    public void add(final String word) {
+        add(word, 0);
+    }
+
+    /**
+     * Adds a weighted word to the live tree, without blocking readers. If the word already exists the highest
+     * weight is kept, remove it first to lower its weight.
+     *
+     * @param word A word, {@code null} and empty words are ignored
+     * @param weight The weight of the word, used by {@link #complete(String, int)}
+     * @throws IllegalArgumentException if the weight is negative
+     * @throws UnsupportedOperationException if the tree is a graph built by {@link #asGraph(Iterable)}
+     */
+    public void add(final String word, final long weight) {
+        if(isGraph) throw new UnsupportedOperationException("A word graph can not be updated");
+        if(weight < 0) throw new IllegalArgumentException("Invalid weight " + weight + " for '" + word + "'");
+        synchronized (updateLock) {
+            insert(word, weight);
+            version++;
+        }
+    }
+
+    /**
+     * Removes a word from the live tree, without blocking readers. Branches that no longer lead to a word are
+     * trimmed from the tree.
+     *
+     * @param word A word
+     * @return {@code True} if the word was removed, {@code False} if it was not in the tree
+     * @throws UnsupportedOperationException if the tree is a graph built by {@link #asGraph(Iterable)}
+     */
+    public boolean remove(final String word) {
+        if(isGraph) throw new UnsupportedOperationException("A word graph can not be updated");
+        if(word == null || word.length() == 0) return false;
+        final char[] chars = toLowerCase(word);
+        synchronized (updateLock) {
+            // find the nodes of the word
+            final Node[] path = new Node[chars.length];
+            Node node = rootCache.get(chars[0]);
+            for(int i = 0; node != null; i++) {
+                path[i] = node;
+                if(i + 1 == chars.length) break;
+                node = node.get(chars[i + 1]);
+            }
+            if(node == null || !node.isWordEnd) return false;
+
+            node.isWordEnd = false;
+            node.weight = 0;
+            version++;
+            // from the last character up, trim empty nodes and lower the weight hints
+            for(int i = chars.length - 1; i >= 0; i--) {
+                final Node current = path[i];
+                if(current.isWordEnd || current.hasChildren()) {
+                    current.updateMaxWeight();
+                } else if(i == 0) {
+                    rootCache.remove(chars[0], current);
+                } else {
+                    path[i - 1].remove(chars[i], current);
+                }
+            }
+            return true;
+        }
+    }
+
+    @Override
+    public long version() {
+        return version;
+    }
+
     /**
      * @param word A word
      * @return {@code True} if the word is found in the Tree, else {@code False}
      */
+    @Override
     public boolean isWord(final String word) {
         final Node node = findNodeByWord(word);
         if(node != null) return node.isWordEnd();
@@ -73,13 +317,190 @@ public class WordSearchTree {
      * @param word A word
      * @return {@code True} if the partial word is found in the Tree, else {@code False}
      */
+    @Override
     public boolean isPartialWord(final String word) {
         final Node node = findNodeByWord(word);
         return node != null;
     }
 
+    /**
+     * Finds the {@code k} highest weighted words that start with the given prefix. Words of equal weight are
+     * ordered alphabetically and words without a weight have a weight of zero.
+     * <br><br>
+     * Every {@code Node} knows the highest weight below it, so the search is best-first: a branch is only
+     * expanded while its best word can still make the top {@code k}, and most of the subtree is never visited.
+     *
+     * @param prefix The beginning of the words, an empty prefix completes from all words
+     * @param k The maximum number of words to return
+     * @return Up to {@code k} lowercase words, highest weight first
+     */
+    public List<String> complete(final String prefix, final int k) {
+        final ArrayList<String> results = new ArrayList<>();
+        if(prefix == null || k <= 0) return results;
+
+        final PriorityQueue<Completion> queue = new PriorityQueue<>();
+        if(prefix.length() == 0) {
+            rootCache.forEach((character, root) -> queue.add(new Completion(String.valueOf(character), root, false)));
+        } else {
+            final Node node = findNodeByWord(prefix);
+            if(node == null) return results;
+            queue.add(new Completion(String.valueOf(toLowerCase(prefix)), node, false));
+        }
+
+        while(!queue.isEmpty() && results.size() < k) {
+            final Completion next = queue.poll();
+            if(next.isWord) {
+                results.add(next.word);
+                continue;
+            }
+            if(next.node.isWordEnd) queue.add(new Completion(next.word, next.node, true));
+            next.node.forEachChild((character, child) -> queue.add(new Completion(next.word + character, child, false)));
+        }
+
+        return results;
+    }
+
+    /**
+     * Finds the words within an edit distance of the given word, for "did you mean" suggestions. The distance is
+     * the Levenshtein distance: the number of characters inserted, deleted or replaced to turn one word into the
+     * other.
+     * <br><br>
+     * The tree is walked once while computing one row of the Levenshtein table per {@code Node}. Words that share
+     * a prefix share its rows, and a branch is trimmed as soon as every entry of its row exceeds the maximum
+     * distance, so only the part of the tree near the word is visited.
+     *
+     * @param word A word, in any case
+     * @param maxDistance The maximum edit distance, any distance past the length of the longest word finds them all
+     * @return Lowercase words and their distance, closest first and then alphabetically
+     * @throws IllegalArgumentException if the maximum distance is negative
+     */
+    public Map<String, Integer> findSimilar(final String word, final int maxDistance) {
+        if(maxDistance < 0) throw new IllegalArgumentException("Invalid maximum distance " + maxDistance);
+        final LinkedHashMap<String, Integer> results = new LinkedHashMap<>();
+        if(word == null) return results;
+
+        final char[] target = toLowerCase(word);
+        final HashMap<String, Integer> matches = new HashMap<>();
+        // rows[d] is the Levenshtein row of the first d characters walked, grown with the depth of the tree walked
+        final int[][] rows = new int[target.length + Math.min(maxDistance, 16) + 2][target.length + 1];
+        for(int i = 0; i <= target.length; i++) rows[0][i] = i;
+        final char[] path = new char[rows.length];
+        rootCache.forEach((character, root) -> findSimilar(root, character, 1, target, maxDistance, rows, path, matches));
+
+        matches.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().thenComparing(Map.Entry.comparingByKey()))
+                .forEachOrdered(match -> results.put(match.getKey(), match.getValue()));
+        return results;
+    }
+
+    /**
+     * Finds the words that match a pattern, where {@code '?'} matches any one character and {@code '*'} matches
+     * any number of characters, including none. For example {@code "c?t"} matches 'cat' and 'cut' and
+     * {@code "st*ng"} matches 'sting' and 'strong'.
+     * <br><br>
+     * The tree is walked once while tracking every position of the pattern the current prefix can be at. A branch
+     * is trimmed as soon as no position is left, so the work depends on how much of the tree matches rather than
+     * on how many words the pattern could spell. Each word is passed to the consumer once, as it is found.
+     *
+     * @param pattern A pattern of up to 63 characters, in any case
+     * @param consumer Receives each lowercase word that matches
+     * @throws IllegalArgumentException if the pattern is longer than 63 characters
+     */
+    public void match(final String pattern, final Consumer<String> consumer) {
+        if(pattern == null || consumer == null) return;
+        if(pattern.length() >= Long.SIZE) throw new IllegalArgumentException("Pattern is longer than 63 characters");
+
+        final char[] chars = toLowerCase(pattern);
+        final long start = closure(chars, 1L);
+        final char[] path = new char[16];
+        rootCache.forEach((character, root) -> match(root, character, 1, chars, start, path, consumer));
+    }
+
+    /**
+     * Finds the words that can be spelled with the given letters, such as the tiles of a word game. Each letter can
+     * be used as many times as it is given and {@code '?'} is a blank that stands for any character.
+     * <br><br>
+     * The tree is walked once, following only children that a remaining letter can spell. Each word is passed to
+     * the consumer once, as it is found.
+     *
+     * @param letters The available letters, in any case and any order
+     * @param consumer Receives each lowercase word that can be spelled
+     */
+    public void matchLetters(final String letters, final Consumer<String> consumer) {
+        if(letters == null || consumer == null || letters.length() == 0) return;
+
+        // count each distinct letter
+        final char[] sorted = toLowerCase(letters);
+        Arrays.sort(sorted);
+        final char[] distinct = new char[sorted.length];
+        final int[] counts = new int[sorted.length];
+        int size = 0;
+        int blanks = 0;
+        for(char character : sorted) {
+            if(character == '?') blanks++;
+            else if(size > 0 && distinct[size - 1] == character) counts[size - 1]++;
+            else {
+                distinct[size] = character;
+                counts[size++] = 1;
+            }
+        }
+
+        final LetterPool pool = new LetterPool(Arrays.copyOf(distinct, size), Arrays.copyOf(counts, size), blanks);
+        final char[] path = new char[letters.length()];
+        rootCache.forEach((character, root) -> matchLetters(root, character, 1, pool, path, consumer));
+    }
+
+    /**
+     * @return A new {@code Cursor} positioned before the first character
+     */
+    @Override
+    public WordSearch.Cursor cursor() {
+        return new Cursor(this);
+    }
+
+    /**
+     * Writes the tree to a snapshot file. The snapshot is reopened with {@link MappedWordSearchTree#open(Path)},
+     * which searches the file in place instead of building the tree again.
+     *
+     * @param path The snapshot file, an existing file is replaced in one step, see
+     *             {@link CompactWordSearchTree#save(Path)}
+     * @throws IOException if the file cannot be written
+     */
+    public void save(final Path path) throws IOException {
+        CompactWordSearchTree.of(this).save(path);
+    }
+
     /* ---------------------------------- Private Methods ---------------------------------- **/
 
+    /**
+     * Adds a word to the tree, {@code null} and empty words are ignored
+     *
+     * @param word A word
+     */
+    private void insert(final String word) {
+        insert(word, 0);
+    }
+
+    /**
+     * Adds a word and its weight to the tree, {@code null} and empty words are ignored
+     *
+     * @param word A word
+     * @param weight The weight of the word
+     */
+    private void insert(final String word, final long weight) {
+        if(word == null || word.length() == 0) return;
+        // get each character
+        final char[] chars = toLowerCase(word);
+        // key off first letter
+        Node root = rootCache.get(chars[0]);
+        if(root == null) {
+            root = new Node();
+            rootCache.put(chars[0], root);
+        }
+        // add the rest of the characters
+        root.addWord(chars, weight);
+    }
+
     /**
      * @param word A word
      * @return The final {@code Node} that references the given word
@@ -87,38 +508,402 @@ public class WordSearchTree {
     private Node findNodeByWord(final String word) {
         if(word == null || word.length() == 0) return null;
 
-        final char[] chars = word.toLowerCase().toCharArray();
-        Node node = rootCache.get(chars[0]);
-        if(node == null) return null;
-        for(int i = 1; i < chars.length; i++) {
-            node = node.get(chars[i]);
-            if(node == null) return null;
+        Node node = rootCache.get(toLowerCase(word.charAt(0)));
+        for(int i = 1; i < word.length() && node != null; i++) {
+            node = node.get(toLowerCase(word.charAt(i)));
         }
 
         return node;
     }
 
+    /**
+     * A dfs recursive method that computes the Levenshtein row of a {@code Node} from the row of its parent.
+     *
+     * @param node The {@code Node} to visit
+     * @param character The character of the {@code Node}
+     * @param depth The number of characters walked, including this one
+     * @param target The lowercase word being matched
+     * @param maxDistance The maximum edit distance
+     * @param rows An out variable of reusable rows, one per depth, copied to a longer one for deeper nodes
+     * @param path An out variable of the characters walked, copied to a longer one for deeper nodes
+     * @param resultOut An out variable that contains the words found and their distances
+     */
+    private static void findSimilar(final Node node, final char character, final int depth, final char[] target,
+                                    final int maxDistance, final int[][] rows, final char[] path,
+                                    final HashMap<String, Integer> resultOut) {
+        final int[][] table = depth == rows.length ? grow(rows) : rows;
+        final char[] chars = depth > path.length ? Arrays.copyOf(path, path.length * 2) : path;
+        final int[] previous = table[depth - 1];
+        final int[] row = table[depth];
+        chars[depth - 1] = character;
+
+        row[0] = depth;
+        int min = row[0];
+        for(int i = 1; i <= target.length; i++) {
+            final int replace = previous[i - 1] + (target[i - 1] == character ? 0 : 1);
+            row[i] = Math.min(replace, Math.min(row[i - 1], previous[i]) + 1);
+            min = Math.min(min, row[i]);
+        }
+
+        if(node.isWordEnd && row[target.length] <= maxDistance) {
+            resultOut.put(String.valueOf(chars, 0, depth), row[target.length]);
+        }
+        // trim this branch once no entry can get back under the maximum distance (performance!), which is at most
+        // the length of the word plus the maximum distance deep
+        if(min > maxDistance) return;
+        node.forEachChild((next, child) -> findSimilar(child, next, depth + 1, target, maxDistance, table, chars, resultOut));
+    }
+
+    /**
+     * @param rows Levenshtein rows, one per depth
+     * @return The same rows followed by as many new ones
+     */
+    private static int[][] grow(final int[][] rows) {
+        final int[][] result = Arrays.copyOf(rows, rows.length * 2);
+        for(int depth = rows.length; depth < result.length; depth++) result[depth] = new int[rows[0].length];
+        return result;
+    }
+
+    /**
+     * A dfs recursive method that moves every pattern position in {@code states} past a {@code Node}.
+     *
+     * @param node The {@code Node} to visit
+     * @param character The character of the {@code Node}
+     * @param depth The number of characters walked, including this one
+     * @param pattern The lowercase pattern
+     * @param states A bit set of the pattern positions reached by the parent
+     * @param path An out variable of the characters walked
+     * @param consumer Receives each word that matches
+     */
+    private static void match(final Node node, final char character, final int depth, final char[] pattern,
+                              final long states, final char[] path, final Consumer<String> consumer) {
+        // move each position past the character
+        long next = 0;
+        for(long remaining = states; remaining != 0; remaining &= remaining - 1) {
+            final int position = Long.numberOfTrailingZeros(remaining);
+            if(position == pattern.length) continue;
+            final char symbol = pattern[position];
+            if(symbol == '*') next |= 1L << position;
+            else if(symbol == '?' || symbol == character) next |= 1L << (position + 1);
+        }
+        // trim this branch if no position is left (performance!)
+        if(next == 0) return;
+        final long reached = closure(pattern, next);
+
+        final char[] chars = depth > path.length ? Arrays.copyOf(path, path.length * 2) : path;
+        chars[depth - 1] = character;
+        if(node.isWordEnd && (reached & (1L << pattern.length)) != 0) consumer.accept(String.valueOf(chars, 0, depth));
+        node.forEachChild((child, childNode) -> match(childNode, child, depth + 1, pattern, reached, chars, consumer));
+    }
+
+    /**
+     * @param pattern A pattern
+     * @param states A bit set of pattern positions
+     * @return The positions with every position after a {@code '*'} added, since a {@code '*'} can match nothing
+     */
+    private static long closure(final char[] pattern, final long states) {
+        long result = states;
+        for(int position = 0; position < pattern.length; position++) {
+            if(pattern[position] == '*' && (result & (1L << position)) != 0) result |= 1L << (position + 1);
+        }
+        return result;
+    }
+
+    /**
+     * A dfs recursive method that spells a {@code Node} with a letter from the pool, then visits its children.
+     *
+     * @param node The {@code Node} to visit
+     * @param character The character of the {@code Node}
+     * @param depth The number of characters walked, including this one
+     * @param pool The letters that are left
+     * @param path An out variable of the characters walked
+     * @param consumer Receives each word that can be spelled
+     */
+    private static void matchLetters(final Node node, final char character, final int depth, final LetterPool pool,
+                                     final char[] path, final Consumer<String> consumer) {
+        // a blank can stand for any letter, so only use one when the letter itself is gone
+        final int letter = pool.indexOf(character);
+        final boolean isBlank = letter < 0 || pool.counts[letter] == 0;
+        if(isBlank && pool.blanks == 0) return;
+        if(isBlank) pool.blanks--;
+        else pool.counts[letter]--;
+
+        path[depth - 1] = character;
+        if(node.isWordEnd) consumer.accept(String.valueOf(path, 0, depth));
+        if(depth < path.length) {
+            node.forEachChild((child, childNode) -> matchLetters(childNode, child, depth + 1, pool, path, consumer));
+        }
+
+        // return the letter to the pool
+        if(isBlank) pool.blanks++;
+        else pool.counts[letter]++;
+    }
+
+    /**
+     * Lowercases each character on its own, the same way lookups do
+     *
+     * @param word A word
+     * @return The lowercase characters of the word
+     */
+    private static char[] toLowerCase(final String word) {
+        final char[] chars = new char[word.length()];
+        for(int i = 0; i < chars.length; i++) {
+            chars[i] = toLowerCase(word.charAt(i));
+        }
+        return chars;
+    }
+
+    /**
+     * Lowercases ASCII with arithmetic, which covers almost every lexicon, and defers to
+     * {@link Character#toLowerCase(char)} for everything else.
+     *
+     * @param character A character
+     * @return The lowercase character
+     */
+    static char toLowerCase(final char character) {
+        if(character >= 0x80) return Character.toLowerCase(character);
+        return character >= 'A' && character <= 'Z' ? (char) (character | 0x20) : character;
+    }
+
+    /**
+     * Replaces the nodes of {@code path} deeper than {@code length} with an equivalent registered node, or
+     * registers them if none exists, then removes them from the path. Deepest nodes go first so the children of
+     * every node checked are already unique.
+     *
+     * @param register Unique nodes of the graph
+     * @param root The node before the first character
+     * @param path Nodes of the last word added to the graph
+     * @param word The last word added to the graph
+     * @param length Number of leading nodes of the path to keep
+     */
+    private static void minimize(final HashMap<Signature, Node> register, final Node root, final ArrayList<Node> path,
+                                 final String word, final int length) {
+        for(int i = path.size() - 1; i >= length; i--) {
+            final Node node = path.remove(i);
+            final Node parent = i == 0 ? root : path.get(i - 1);
+            final Node registered = register.putIfAbsent(new Signature(node), node);
+            if(registered != null) parent.put(word.charAt(i), registered);
+        }
+    }
+
+    /* ---------------------------------- Cursor Class ---------------------------------- **/
+
+    /**
+     * A {@code WordSearch.Cursor} that keeps the {@code Node} of every character walked
+     */
+    private static class Cursor implements WordSearch.Cursor {
+
+        // instance vars
+        private final WordSearchTree tree;
+        private Node[] path = new Node[32];
+        private int depth = 0;
+
+        private Cursor(final WordSearchTree tree) {
+            this.tree = tree;
+        }
+
+        @Override
+        public boolean next(final char character) {
+            final char lowerCase = toLowerCase(character);
+            final Node node = depth == 0 ? tree.rootCache.get(lowerCase) : path[depth].get(lowerCase);
+            if(node == null) return false;
+            if(depth + 1 == path.length) path = Arrays.copyOf(path, path.length * 2);
+            path[++depth] = node;
+            return true;
+        }
+
+        @Override
+        public void back() {
+            if(depth == 0) throw new IllegalStateException("Cursor is before the first character");
+            path[depth--] = null;
+        }
+
+        @Override
+        public boolean isWord() {
+            return depth > 0 && path[depth].isWordEnd();
+        }
+
+        @Override
+        public boolean isPartialWord() {
+            return depth > 0;
+        }
+
+        @Override
+        public int depth() {
+            return depth;
+        }
+
+        @Override
+        public void reset() {
+            while(depth > 0) path[depth--] = null;
+        }
+
+    }
+
+    /* ---------------------------------- LetterPool Class ---------------------------------- **/
+
+    /**
+     * The letters left to spell with in {@link #matchLetters(String, Consumer)}
+     */
+    private static class LetterPool {
+
+        private final char[] letters;
+        private final int[] counts;
+        private int blanks;
+
+        private LetterPool(final char[] letters, final int[] counts, final int blanks) {
+            this.letters = letters;
+            this.counts = counts;
+            this.blanks = blanks;
+        }
+
+        /**
+         * @param character A lowercase character
+         * @return The index of the character in {@code letters}, or a negative number if it is not one
+         */
+        private int indexOf(final char character) {
+            return Arrays.binarySearch(letters, character);
+        }
+
+    }
+
+    /* ---------------------------------- Completion Class ---------------------------------- **/
+
+    /**
+     * A branch or word waiting to be visited by {@link #complete(String, int)}, ordered by the highest weight it
+     * can produce and then alphabetically. A word comes before the branch it ends.
+     */
+    private static class Completion implements Comparable<Completion> {
+
+        private final String word;
+        private final Node node;
+        private final boolean isWord;
+        private final long weight;
+
+        private Completion(final String word, final Node node, final boolean isWord) {
+            this.word = word;
+            this.node = node;
+            this.isWord = isWord;
+            this.weight = isWord ? node.weight : node.maxWeight;
+        }
+
+        @Override
+        public int compareTo(final Completion other) {
+            if(weight != other.weight) return Long.compare(other.weight, weight);
+            final int order = word.compareTo(other.word);
+            if(order != 0) return order;
+            return Boolean.compare(other.isWord, isWord);
+        }
+
+    }
+
+    /* ---------------------------------- Signature Class ---------------------------------- **/
+
+    /**
+     * Identifies a graph node by its contents. Two nodes are equivalent if both or neither end a word and they
+     * have the same children, compared by identity.
+     */
+    private static class Signature {
+
+        private final Node node;
+        private final int hashCode;
+
+        private Signature(final Node node) {
+            this.node = node;
+            this.hashCode = node.childrenHashCode() * 31 + (node.isWordEnd ? 1 : 0);
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            if(!(other instanceof Signature)) return false;
+            final Node that = ((Signature) other).node;
+            return node.isWordEnd == that.isWordEnd && node.hasSameChildren(that);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+    }
+
     /* ---------------------------------- Node Class ---------------------------------- **/
 
     /**
      * Represents a single element in the {@code WordSearchTree}
+     * <br><br>
+     * Children 'a' to 'z' are kept in a fixed array indexed by {@code character - 'a'}, so following the lexicon
+     * letters is an array load with no hashing or boxing. Any other character is kept in a map that is only
+     * created when needed. Leaves have neither.
      */
-    private static class Node {
+    static class Node {
+
+        // constants
+        /** Number of letters from 'a' to 'z' */
+        private static final int LETTERS = 26;
 
         // instance vars
-        private boolean isWordEnd = false;
-        private final HashMap<Character, Node> children = new HashMap<>();
+        private volatile boolean isWordEnd = false;
+        /** Weight of the word ending at this {@code Node} */
+        private volatile long weight = 0;
+        /** Highest weight of any word ending at or below this {@code Node} */
+        private volatile long maxWeight = 0;
+        /** Children 'a' to 'z', or {@code null} if there are none */
+        private volatile Node[] letters;
+        /** Children outside 'a' to 'z', or {@code null} if there are none */
+        private volatile ConcurrentHashMap<Character, Node> others;
 
         private Node() {
             // nop
         }
 
         /**
-         * @param character A character
+         * @param character A lowercase character
          * @return The child {@code Node} that contains the given character, if not found returns {@code null}
          */
         private Node get(final char character) {
-            return this.children.get(character);
+            final int index = character - 'a';
+            if(index >= 0 && index < LETTERS) {
+                final Node[] letters = this.letters;
+                return letters == null ? null : letters[index];
+            }
+            final ConcurrentHashMap<Character, Node> others = this.others;
+            return others == null ? null : others.get(character);
+        }
+
+        /**
+         * Sets the child {@code Node} of a character, replacing any existing child
+         *
+         * @param character A lowercase character
+         * @param child The child {@code Node}
+         */
+        private void put(final char character, final Node child) {
+            final int index = character - 'a';
+            if(index >= 0 && index < LETTERS) {
+                final Node[] letters = this.letters == null ? new Node[LETTERS] : this.letters;
+                letters[index] = child;
+                // the volatile write publishes the new element to readers
+                this.letters = letters;
+            } else {
+                if(others == null) others = new ConcurrentHashMap<>();
+                others.put(character, child);
+            }
+        }
+
+        /**
+         * @param character A lowercase character
+         * @param child The child {@code Node} expected for the character
+         */
+        private void remove(final char character, final Node child) {
+            final int index = character - 'a';
+            if(index >= 0 && index < LETTERS) {
+                final Node[] letters = this.letters;
+                if(letters == null || letters[index] != child) return;
+                letters[index] = null;
+                this.letters = letters;
+            } else if(others != null) {
+                others.remove(character, child);
+            }
         }
 
         /**
@@ -126,19 +911,98 @@ public class WordSearchTree {
          * @return The child {@code Node} that uses the given character
          */
         private Node addChild(final char character) {
-            Node child = children.get(character);
-            if(child == null) child = new Node();
-            children.put(character, child);
+            Node child = get(character);
+            if(child == null) {
+                child = new Node();
+                put(character, child);
+            }
             return child;
         }
 
+        /**
+         * Adds the characters of a word after the first, which is the character of this {@code Node}
+         *
+         * @param chars The characters of a word
+         * @param weight The weight of the word, if the word already exists the highest weight is kept
+         */
+        private void addWord(final char[] chars, final long weight) {
+            Node node = this;
+            node.maxWeight = Math.max(node.maxWeight, weight);
+            for(int i = 1; i < chars.length; i++) {
+                node = node.addChild(chars[i]);
+                node.maxWeight = Math.max(node.maxWeight, weight);
+            }
+            node.weight = node.isWordEnd ? Math.max(node.weight, weight) : weight;
+            node.isWordEnd = true;
+        }
+
+        /**
+         * Recalculates the highest weight at or below this {@code Node} from its word and its children
+         */
+        private void updateMaxWeight() {
+            final long[] max = {isWordEnd ? weight : 0};
+            forEachChild((character, child) -> max[0] = Math.max(max[0], child.maxWeight));
+            maxWeight = max[0];
+        }
+
+        /**
+         * @return {@code True} if the {@code Node} has at least one child, else {@code False}
+         */
+        private boolean hasChildren() {
+            final Node[] letters = this.letters;
+            if(letters != null) {
+                for(Node child : letters) {
+                    if(child != null) return true;
+                }
+            }
+            final ConcurrentHashMap<Character, Node> others = this.others;
+            return others != null && !others.isEmpty();
+        }
+
+        /**
+         * @return A hash of the characters and identities of the children
+         */
+        private int childrenHashCode() {
+            final int[] hash = {0};
+            forEachChild((character, child) -> hash[0] += character ^ System.identityHashCode(child));
+            return hash[0];
+        }
+
+        /**
+         * @param other Another {@code Node}
+         * @return {@code True} if both nodes have the same characters with identical children, else {@code False}
+         */
+        private boolean hasSameChildren(final Node other) {
+            for(char character = 'a'; character <= 'z'; character++) {
+                if(get(character) != other.get(character)) return false;
+            }
+            final Map<Character, Node> others = this.others == null ? Map.of() : this.others;
+            final Map<Character, Node> otherOthers = other.others == null ? Map.of() : other.others;
+            return others.equals(otherOthers);
+        }
+
         /**
          * @return {@code True} if the {@code Node} is the end of a word, else {@code False}
          */
-        private boolean isWordEnd() {
+        boolean isWordEnd() {
             return isWordEnd;
         }
 
+        /**
+         * @param action Called with the character and {@code Node} of every child, letters first in order
+         */
+        void forEachChild(final BiConsumer<Character, Node> action) {
+            final Node[] letters = this.letters;
+            if(letters != null) {
+                for(int i = 0; i < LETTERS; i++) {
+                    final Node child = letters[i];
+                    if(child != null) action.accept((char) ('a' + i), child);
+                }
+            }
+            final ConcurrentHashMap<Character, Node> others = this.others;
+            if(others != null) others.forEach(action);
+        }
+
     }
 
 }
@@ -0,0 +1,279 @@
+package org.salerno.puzzles.games;
+
+import org.salerno.model.trees.WordSearch;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Finds the words on a Boggle board with a depth first search that walks the board and the lexicon together.
+ * <br><br>
+ * The board is kept as a {@code char[]}, the neighbors of each cell come from a {@link Grid} that is built once per
+ * board size, visited cells are a bit set and the letters walked are kept in a reusable buffer. A lexicon
+ * {@code Cursor} follows the search one character at a time, so no prefix is searched for from the start. Once the
+ * buffers have grown to the board size, solving allocates nothing but the words it finds.
+ * <br><br>
+ * A solver is not thread-safe, but any number of solvers can share a lexicon.
+ *
+ * @author alex.salerno@me.com
+ * @since Oct-2026
+ */
+final class BoardSolver {
+
+    // instance vars
+    private final WordSearch.Cursor cursor;
+    private final int minLetters;
+    private char[] board = new char[16];
+    private long[] visited = new long[1];
+    private char[] word = new char[16];
+    private Grid grid;
+    /** Neighbors of each cell in the order they are searched, laid out like {@link Grid#neighbors} */
+    private int[] neighbors;
+    private Consumer<String> resultOut;
+
+    // limit vars
+    /** Number of letters walked since the board was given */
+    private long nodes;
+    private long maxNodes = Long.MAX_VALUE;
+    private long deadline = Long.MAX_VALUE;
+    private boolean isStopped;
+    /** Counts the search, {@code null} when it is not counted */
+    private SearchMetrics.Recorder recorder;
+
+    /* ---------------------------------- Constructor Methods ---------------------------------- **/
+
+    /**
+     * @param lexicon The words to find
+     * @param minLetters Minimum number of letters that can constitute a word
+     */
+    BoardSolver(final WordSearch lexicon, final int minLetters) {
+        this.cursor = lexicon.cursor();
+        this.minLetters = minLetters;
+    }
+
+    /* ---------------------------------- Solver Methods ---------------------------------- **/
+
+    /**
+     * Finds every word on the board. A word that can be spelled by more than one path is passed to the consumer
+     * once per path.
+     *
+     * @param grid The size of the board
+     * @param boardLetters The letters of the board from the upper-left, left to right, one per cell
+     * @param resultOut Receives each word that is found
+     */
+    void solve(final Grid grid, final String boardLetters, final Consumer<String> resultOut) {
+        prepare(grid, boardLetters, resultOut);
+        for(int cell = 0; cell < grid.cellCount; cell++) {
+            solveFrom(cell);
+        }
+        this.resultOut = null;
+    }
+
+    /**
+     * Finds every word that starts at one cell. The board must have been given to {@link #prepare}.
+     *
+     * @param cell The first cell of every word
+     */
+    void solveFrom(final int cell) {
+        final long start = recorder == null ? 0 : System.nanoTime();
+        cursor.reset();
+        if(cursor.next(board[cell])) traverseBoard(cell, 1);
+        if(recorder != null) recorder.startCell(cell, System.nanoTime() - start);
+    }
+
+    /**
+     * Finds every word of two or more letters that starts with the given two cells, so the search from one cell can
+     * be split up. The board must have been given to {@link #prepare}.
+     *
+     * @param first The first cell of every word
+     * @param second The second cell of every word, a neighbor of the first
+     */
+    void solveFrom(final int first, final int second) {
+        final long start = recorder == null ? 0 : System.nanoTime();
+        cursor.reset();
+        if(cursor.next(board[first]) && cursor.next(board[second])) {
+            word[0] = board[first];
+            visited[first >>> 6] |= 1L << first;
+            traverseBoard(second, 2);
+            visited[first >>> 6] &= ~(1L << first);
+        }
+        if(recorder != null) recorder.startCell(first, System.nanoTime() - start);
+    }
+
+    /**
+     * Loads a board, growing the buffers if it is larger than any board seen before
+     *
+     * @param grid The size of the board
+     * @param boardLetters The letters of the board from the upper-left, left to right, one per cell
+     * @param resultOut Receives each word that is found
+     */
+    void prepare(final Grid grid, final String boardLetters, final Consumer<String> resultOut) {
+        if(grid.cellCount > board.length) {
+            board = new char[grid.cellCount];
+            word = new char[grid.cellCount];
+        }
+        if(grid.cellCount > visited.length * Long.SIZE) visited = new long[(grid.cellCount + 63) >>> 6];
+        boardLetters.getChars(0, grid.cellCount, board, 0);
+        this.grid = grid;
+        this.neighbors = grid.neighbors;
+        this.resultOut = resultOut;
+        this.nodes = 0;
+        this.isStopped = false;
+    }
+
+    /**
+     * Limits the search of each board given to {@link #prepare}, until the limits are changed. Once a limit is
+     * reached the search stops, keeping the words found so far, and every later search of the board returns straight
+     * away.
+     *
+     * @param maxNodes The most letters to walk, {@code Long.MAX_VALUE} for no limit
+     * @param deadline The {@link System#nanoTime()} to stop at, {@code Long.MAX_VALUE} for no limit
+     */
+    void limit(final long maxNodes, final long deadline) {
+        this.maxNodes = maxNodes;
+        this.deadline = deadline;
+    }
+
+    /**
+     * Counts the search of every board from now on into a recorder
+     *
+     * @param recorder The recorder of the thread that uses this solver, or {@code null} to stop counting
+     */
+    void record(final SearchMetrics.Recorder recorder) {
+        this.recorder = recorder;
+    }
+
+    /**
+     * Changes the order the neighbors of each cell are searched in, for the board given to {@link #prepare}
+     *
+     * @param neighbors The neighbors of each cell, the same as {@link Grid#neighbors} but in any order within a cell
+     */
+    void orderNeighbors(final int[] neighbors) {
+        this.neighbors = neighbors;
+    }
+
+    /**
+     * @return {@code True} if a limit was reached before the search was done, else {@code False}
+     */
+    boolean isStopped() {
+        return isStopped;
+    }
+
+    /**
+     * @return The number of letters walked since the board was given
+     */
+    long nodes() {
+        return nodes;
+    }
+
+    /* ---------------------------------- Private Methods ---------------------------------- **/
+
+    /**
+     * A dfs recursive method that traverses all possible permutations of words on the Boggle board. The cursor
+     * is on the given cell when called and is left there on return.
+     *
+     * @param cell The current cell to search the board from
+     * @param depth The number of letters walked, including this cell
+     */
+    private void traverseBoard(final int cell, final int depth) {
+        // the clock is only read every 1024 letters
+        if(nodes == maxNodes || ((nodes & 1023) == 0 && isPastDeadline())) isStopped = true;
+        if(isStopped) return;
+        nodes++;
+
+        word[depth - 1] = board[cell];
+        // if it's a word, add to results
+        if(depth >= minLetters && cursor.isWord()) resultOut.accept(new String(word, 0, depth));
+
+        int branches = 0;
+        int pruned = 0;
+        visited[cell >>> 6] |= 1L << cell;
+        for(int edge = grid.firstNeighbor[cell]; edge < grid.firstNeighbor[cell + 1] && !isStopped; edge++) {
+            final int next = neighbors[edge];
+            // is move already traversed
+            if((visited[next >>> 6] & (1L << next)) != 0) continue;
+            // if the next letter is not part of a word, trim this branch (performance!)
+            if(!cursor.next(board[next])) {
+                pruned++;
+                continue;
+            }
+            branches++;
+            traverseBoard(next, depth + 1);
+            cursor.back();
+        }
+        visited[cell >>> 6] &= ~(1L << cell);
+        if(recorder != null) recorder.node(depth, branches, pruned);
+    }
+
+    /**
+     * @return {@code True} if there is a deadline and it has passed, else {@code False}
+     */
+    private boolean isPastDeadline() {
+        return deadline != Long.MAX_VALUE && System.nanoTime() - deadline > 0;
+    }
+
+    /* ---------------------------------- Grid Class ---------------------------------- **/
+
+    /**
+     * The cells of a board size and their neighbors. Cells are numbered from the upper-left, left to right, and the
+     * neighbors of cell {@code n} are {@code neighbors[firstNeighbor[n]]} to {@code neighbors[firstNeighbor[n+1]-1]}.
+     * Grids are immutable and shared by every board of the same size.
+     */
+    static final class Grid {
+
+        // constants
+        /**
+         * Boards up to this wide and high share their grid, which covers every size played with dice. Larger boards
+         * are rare and cost far more to solve than to build a grid for, so the shared grids stay under a megabyte.
+         */
+        private static final int MAX_SHARED_SIDE = 16;
+        /** Grids by board size, of the boards that share their grid */
+        private static final ConcurrentHashMap<Long, Grid> GRIDS = new ConcurrentHashMap<>();
+
+        // instance vars
+        final int width;
+        final int height;
+        final int cellCount;
+        final int[] firstNeighbor;
+        final int[] neighbors;
+
+        private Grid(final int width, final int height) {
+            this.width = width;
+            this.height = height;
+            this.cellCount = width * height;
+            this.firstNeighbor = new int[cellCount + 1];
+
+            final int[] edges = new int[cellCount * 8];
+            int edgeCount = 0;
+            for(int cell = 0; cell < cellCount; cell++) {
+                firstNeighbor[cell] = edgeCount;
+                final int x = cell % width;
+                final int y = cell / width;
+                for(int j = -1; j < 2; j++) {
+                    for(int i = -1; i < 2; i++) {
+                        if(i == 0 && j == 0) continue;
+                        if(x + i >= 0 && y + j >= 0 && x + i < width && y + j < height) {
+                            edges[edgeCount++] = (y + j) * width + x + i;
+                        }
+                    }
+                }
+            }
+            firstNeighbor[cellCount] = edgeCount;
+            this.neighbors = Arrays.copyOf(edges, edgeCount);
+        }
+
+        /**
+         * @param width The board width, starting with 1
+         * @param height The board height, starting with 1
+         * @return The shared {@code Grid} for the board size, or a new one for a board larger than
+         *         {@code MAX_SHARED_SIDE} either way
+         */
+        static Grid of(final int width, final int height) {
+            if(width > MAX_SHARED_SIDE || height > MAX_SHARED_SIDE) return new Grid(width, height);
+            return GRIDS.computeIfAbsent(((long) width << 32) | height, size -> new Grid(width, height));
+        }
+
+    }
+
+}
@@ -1,10 +1,20 @@
 package org.salerno.puzzles.games;
 
+import org.salerno.model.trees.WordSearch;
 import org.salerno.model.trees.WordSearchTree;
 
 import java.awt.*;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.Stack;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Boggle Board Solver implementation
@@ -12,30 +22,95 @@ import java.util.Stack;
  * Boggle is a word game invented by Allan Turoff and originally distributed by Parker Brothers.
  * The game is played using a plastic grid of lettered dice, in which players look for words in
  * sequences of adjacent letters. (Wikipedia)
+ * <br><br>
+ * A Boggle that solves boards on a pool of threads should be closed once no board is being solved, to stop them.
  * @author alex.salerno@me.com
  * @since Aug-2022
  */
-public class Boggle {
+public class Boggle implements AutoCloseable {
 
     // instance vars
     /** Searchable Lexicon */
-    final WordSearchTree wordSearchTree;
+    final WordSearch wordSearchTree;
+    /** Solves large boards on a pool of threads, {@code null} when boards are solved on the calling thread */
+    private final ParallelBoardSolver parallelSolver;
+    /** Counts the search of every board, {@code null} when it is not counted */
+    private final SearchMetrics metrics;
+    /** Statistics of the lexicon, {@code null} until they are first needed */
+    private volatile Derived<LexiconStats> lexiconStats;
+    /** Words of a small lexicon, {@code null} until first needed and empty if the lexicon is too large */
+    private volatile Derived<Optional<DictionaryBoardSolver.Words>> dictionaryWords;
 
     // constants
     /**
      * Minimum number of letters that can constitute a word
      */
-    private static final int MIN_NUM_LETTERS = 3;
+    static final int MIN_NUM_LETTERS = 3;
+    /**
+     * Boards with fewer cells are solved on the calling thread, since splitting them up costs more than it saves
+     */
+    private static final int PARALLEL_MIN_CELLS = 16;
+    /**
+     * Lexicons with more words are always searched for on the board, lexicons with fewer may be checked word by word
+     */
+    private static final int DICTIONARY_MAX_WORDS = 4000;
+    /**
+     * Checking a lexicon word by word is cheaper with up to {@code DICTIONARY_MIN_WORDS} words, plus
+     * {@code DICTIONARY_SMALL_BOARD_WORDS} divided by the cells of the board, measured with {@code BoggleBenchmark}
+     */
+    private static final int DICTIONARY_MIN_WORDS = 500;
+    private static final int DICTIONARY_SMALL_BOARD_WORDS = 24000;
 
     /* ---------------------------------- Constructor Methods ---------------------------------- **/
 
     public Boggle(final HashSet<String> validWords) {
-        wordSearchTree = WordSearchTree.asTree(validWords);
+        this(WordSearchTree.asTree(validWords));
+    }
+
+    /**
+     * @param lexicon A prebuilt lexicon, such as a {@code MappedWordSearchTree} opened from a snapshot, that can be
+     *                shared between solvers
+     */
+    public Boggle(final WordSearch lexicon) {
+        this(lexicon, 1);
+    }
+
+    /**
+     * Solves boards of 16 or more cells on a pool of threads, splitting the search by starting cell. The words found
+     * are the same as solving on one thread.
+     *
+     * @param lexicon A prebuilt lexicon that can be shared between solvers
+     * @param parallelism The number of threads to solve each board with, 1 solves boards on the calling thread. Tune
+     *                    this against the number of boards being solved at the same time, and close the Boggle to
+     *                    stop the threads.
+     * @throws IllegalArgumentException if the parallelism is less than 1
+     */
+    public Boggle(final WordSearch lexicon, final int parallelism) {
+        this(lexicon, parallelism, null);
+    }
+
+    /**
+     * Counts the search of every board into the metrics, see {@link SearchMetrics}. Boards streamed or found one word
+     * at a time are not counted, and boards are always searched, never checked word by word.
+     *
+     * @param lexicon A prebuilt lexicon that can be shared between solvers
+     * @param parallelism The number of threads to solve each board with, 1 solves boards on the calling thread
+     * @param metrics Counts the search, or {@code null} to not count it
+     * @throws IllegalArgumentException if the parallelism is less than 1
+     */
+    public Boggle(final WordSearch lexicon, final int parallelism, final SearchMetrics metrics) {
+        if(parallelism < 1) throw new IllegalArgumentException("Parallelism must be at least 1: " + parallelism);
+        wordSearchTree = lexicon;
+        parallelSolver = parallelism > 1 ? new ParallelBoardSolver(lexicon, MIN_NUM_LETTERS, parallelism, metrics) : null;
+        this.metrics = metrics;
     }
 
     /* ---------------------------------- Public Methods ---------------------------------- **/
 
     /**
+     * Boards are searched for the words of the lexicon, unless the lexicon is small enough that checking each of its
+     * words against the board is cheaper, see {@link DictionaryBoardSolver}. The words found are the same either way.
+     *
      * @param width The Boggle board width, starting with 1
      * @param height The Boggle board height, starting with 1
      * @param boardLetters A string of letters representing the Boggle letters starting from the upper-left of the board from left to right
@@ -43,25 +118,249 @@ public class Boggle {
      */
     public HashSet<String> solveBoard(final int width, final int height, final String boardLetters) {
         HashSet<String> results = new HashSet<>();
-        final long boardArea = (long) width * height;
-        if(boardLetters == null
-                || boardLetters.length() <= 0
-                || width <= 0 || height <= 0
-                || boardArea != boardLetters.length()
-        ) return results;
+        if(!isValidBoard(width, height, boardLetters)) return results;
+
+        final BoardSolver.Grid grid = BoardSolver.Grid.of(width, height);
+        if(metrics != null) metrics.recorder().board();
+        if(parallelSolver != null && !parallelSolver.isClosed() && grid.cellCount >= PARALLEL_MIN_CELLS) {
+            try {
+                return parallelSolver.solve(grid, boardLetters);
+            } catch (RejectedExecutionException e) {
+                // closed since it was checked, the board is solved on the calling thread
+            }
+        }
+        // metrics count the search, so a board is always searched when they are kept
+        final DictionaryBoardSolver.Words words = metrics == null ? dictionaryWordsFor(grid, boardLetters) : null;
+        if(words != null) {
+            new DictionaryBoardSolver(words).solve(grid, boardLetters, results::add);
+        } else {
+            newSolver().solve(grid, boardLetters, results::add);
+        }
+        return results;
+    }
+
+    /**
+     * Solves the board within a time limit or a number of letters walked, returning the words found so far if a
+     * limit is reached first.
+     * <br><br>
+     * The search starts with the neighboring pairs of tiles whose letters begin the most valuable words in the
+     * lexicon, and from each tile moves first to the neighbors that do the same, so the words found before a limit is
+     * reached are worth more than those of a search in board order.
+     * Boards are solved on the calling thread.
+     *
+     * @param width The Boggle board width, starting with 1
+     * @param height The Boggle board height, starting with 1
+     * @param boardLetters A string of letters representing the Boggle letters starting from the upper-left of the board from left to right
+     * @param timeLimit How long to search for, or {@code null} for no limit
+     * @param maxNodes The most letters to walk, {@code Long.MAX_VALUE} for no limit
+     * @return The words found and whether the search was complete
+     * @throws IllegalArgumentException if the number of letters to walk is negative
+     */
+    public Solution solveBoard(final int width, final int height, final String boardLetters, final Duration timeLimit,
+                               final long maxNodes) {
+        if(maxNodes < 0) throw new IllegalArgumentException("Letters to walk must not be negative: " + maxNodes);
+        final long deadline = timeLimit == null ? Long.MAX_VALUE : System.nanoTime() + timeLimit.toNanos();
+        final HashSet<String> results = new HashSet<>();
+        if(!isValidBoard(width, height, boardLetters)) return new Solution(results, true, 0);
+
+        final BoardSolver.Grid grid = BoardSolver.Grid.of(width, height);
+        if(metrics != null) metrics.recorder().board();
+        final BoardSolver solver = newSolver();
+        solver.prepare(grid, boardLetters, results::add);
+        solver.limit(maxNodes, deadline);
+
+        // order the neighbors of each tile, and the neighboring pairs of tiles to start from, by the score of the
+        // words the pair of letters begins, best first
+        final LexiconStats stats = lexiconStats();
+        final int[] firstCells = new int[grid.neighbors.length];
+        final long[] pairs = new long[grid.neighbors.length];
+        for(int cell = 0; cell < grid.cellCount; cell++) {
+            for(int edge = grid.firstNeighbor[cell]; edge < grid.firstNeighbor[cell + 1]; edge++) {
+                firstCells[edge] = cell;
+                final long pairScore = stats.pairScore(boardLetters.charAt(cell), boardLetters.charAt(grid.neighbors[edge]));
+                pairs[edge] = (pairScore << 32) | edge;
+            }
+        }
+        final int[] neighbors = new int[grid.neighbors.length];
+        for(int cell = 0; cell < grid.cellCount; cell++) {
+            final long[] cellPairs = Arrays.copyOfRange(pairs, grid.firstNeighbor[cell], grid.firstNeighbor[cell + 1]);
+            Arrays.sort(cellPairs);
+            for(int i = 0; i < cellPairs.length; i++) {
+                neighbors[grid.firstNeighbor[cell] + i] = grid.neighbors[(int) cellPairs[cellPairs.length - 1 - i]];
+            }
+        }
+        solver.orderNeighbors(neighbors);
+        Arrays.sort(pairs);
+
+        for(int i = pairs.length - 1; i >= 0 && !solver.isStopped(); i--) {
+            final int edge = (int) pairs[i];
+            solver.solveFrom(firstCells[edge], grid.neighbors[edge]);
+        }
+        return new Solution(results, !solver.isStopped(), solver.nodes());
+    }
+
+    /**
+     * Scores a word by its length, using the standard Boggle scoring: 3 and 4 letters score 1, 5 letters 2,
+     * 6 letters 3, 7 letters 5 and 8 or more letters 11.
+     *
+     * @param word A word
+     * @return The score of the word, 0 if it is too short
+     */
+    public static int score(final String word) {
+        return word == null ? 0 : score(word.length());
+    }
+
+    /**
+     * @param length The number of letters in a word
+     * @return The score of a word of that length, 0 if it is too short
+     */
+    static int score(final int length) {
+        if(length < MIN_NUM_LETTERS) return 0;
+        if(length <= 4) return 1;
+        if(length == 5) return 2;
+        if(length == 6) return 3;
+        if(length == 7) return 5;
+        return 11;
+    }
+
+    /**
+     * @param words The words found on a board
+     * @return The total score of the words
+     */
+    public static int score(final Iterable<String> words) {
+        int total = 0;
+        for(String word : words) {
+            total += score(word);
+        }
+        return total;
+    }
+
+    /**
+     * Passes each distinct word on the board to the consumer as soon as it is found, rather than gathering them
+     * first. Meant for very large boards, the memory used depends on the words found and not on the board size.
+     *
+     * @param width The Boggle board width, starting with 1
+     * @param height The Boggle board height, starting with 1
+     * @param boardLetters A string of letters representing the Boggle letters starting from the upper-left of the board from left to right
+     * @param wordOut Receives each word that is a valid solution, once
+     */
+    public void solveBoard(final int width, final int height, final String boardLetters, final Consumer<String> wordOut) {
+        streamBoard(width, height, boardLetters).forEach(wordOut);
+    }
+
+    /**
+     * Finds the distinct words on the board lazily, as the returned stream is consumed, so a caller that only
+     * needs some of the words stops the search early.
+     *
+     * @param width The Boggle board width, starting with 1
+     * @param height The Boggle board height, starting with 1
+     * @param boardLetters A string of letters representing the Boggle letters starting from the upper-left of the board from left to right
+     * @return A sequential stream of the words that are valid solutions
+     */
+    public Stream<String> streamBoard(final int width, final int height, final String boardLetters) {
+        if(!isValidBoard(width, height, boardLetters)) return Stream.empty();
+
+        final StreamingBoardSolver solver = new StreamingBoardSolver(wordSearchTree, MIN_NUM_LETTERS, BoardSolver.Grid.of(width, height), boardLetters);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(solver,
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Stops the threads that solve boards in parallel, boards solved after are solved on the calling thread. Does
+     * nothing when boards are always solved on the calling thread.
+     */
+    @Override
+    public void close() {
+        if(parallelSolver != null) parallelSolver.close();
+    }
+
+    /* ---------------------------------- Package Methods ---------------------------------- **/
+
+    /**
+     * The original solver, which searches the lexicon for every prefix from the start and allocates at every step.
+     * Kept as a baseline for benchmarks and tests.
+     *
+     * @param width The Boggle board width, starting with 1
+     * @param height The Boggle board height, starting with 1
+     * @param boardLetters A string of letters representing the Boggle letters starting from the upper-left of the board from left to right
+     * @return A list of words that are valid solutions
+     */
+    HashSet<String> solveBoardLegacy(final int width, final int height, final String boardLetters) {
+        HashSet<String> results = new HashSet<>();
+        if(!isValidBoard(width, height, boardLetters)) return results;
 
         final Board board = new Board(width, height, boardLetters);
         final char[] chars = boardLetters.toCharArray();
         // get all solution words for each starting position
         // from (0,0) to (BOARD_WIDTH,BOARD_HEIGHT)
         for(int i = 0; i < chars.length; i++) {
-            results.addAll(getWords(board, i%width, Math.floorDiv(i,height)));
+            results.addAll(getWords(board, i%width, Math.floorDiv(i,width)));
         }
         return results;
     }
 
+    /**
+     * @param width The Boggle board width, starting with 1
+     * @param height The Boggle board height, starting with 1
+     * @param boardLetters A string of letters representing the Boggle letters
+     * @return {@code True} if the letters fill a board of the given size, else {@code False}
+     */
+    static boolean isValidBoard(final int width, final int height, final String boardLetters) {
+        final long boardArea = (long) width * height;
+        return boardLetters != null
+                && boardLetters.length() > 0
+                && width > 0 && height > 0
+                && boardArea == boardLetters.length();
+    }
+
     /* ---------------------------------- Private Methods ---------------------------------- **/
 
+    /**
+     * @return A solver for the calling thread, counting into the metrics if there are any
+     */
+    private BoardSolver newSolver() {
+        final BoardSolver solver = new BoardSolver(wordSearchTree, MIN_NUM_LETTERS);
+        if(metrics != null) solver.record(metrics.recorder());
+        return solver;
+    }
+
+    /**
+     * The cost of checking the lexicon word by word grows with the number of words, while the cost of searching the
+     * board grows with the size of the lexicon far more slowly, so checking word by word only pays for small lexicons.
+     * The words are counted the first time and again after the lexicon changes, stopping once there are too many.
+     *
+     * @param grid The size of the board
+     * @param boardLetters The letters of the board
+     * @return The words of the lexicon if the board should be solved by checking each of them, else {@code null}
+     */
+    private DictionaryBoardSolver.Words dictionaryWordsFor(final BoardSolver.Grid grid, final String boardLetters) {
+        if(!DictionaryBoardSolver.canSolve(boardLetters)) return null;
+        final long version = wordSearchTree.version();
+        Derived<Optional<DictionaryBoardSolver.Words>> words = dictionaryWords;
+        if(words == null || words.version != version) {
+            // two threads may both pack them, either result will do
+            words = new Derived<>(version, Optional.ofNullable(
+                    DictionaryBoardSolver.Words.of(wordSearchTree, MIN_NUM_LETTERS, DICTIONARY_MAX_WORDS)));
+            dictionaryWords = words;
+        }
+        final int maxWords = DICTIONARY_MIN_WORDS + DICTIONARY_SMALL_BOARD_WORDS / grid.cellCount;
+        return words.value.filter(dictionary -> dictionary.count <= maxWords).orElse(null);
+    }
+
+    /**
+     * @return The statistics of the lexicon, gathered the first time they are needed and after the lexicon changes
+     */
+    private LexiconStats lexiconStats() {
+        final long version = wordSearchTree.version();
+        Derived<LexiconStats> stats = lexiconStats;
+        if(stats == null || stats.version != version) {
+            // two threads may both gather them, either result will do
+            stats = new Derived<>(version, LexiconStats.of(wordSearchTree));
+            lexiconStats = stats;
+        }
+        return stats.value;
+    }
+
     /**
      * @param board The Boggle board to check for solutions against
      * @param x X coordinate of root letter
@@ -112,6 +411,66 @@ public class Boggle {
         stackOut.pop();
     }
 
+    /* ---------------------------------- Derived Class ---------------------------------- **/
+
+    /**
+     * Data derived from the lexicon and the version of the lexicon it was derived from, so it is derived again once
+     * words are added or removed
+     */
+    private static final class Derived<T> {
+
+        // instance vars
+        final long version;
+        final T value;
+
+        private Derived(final long version, final T value) {
+            this.version = version;
+            this.value = value;
+        }
+
+    }
+
+    /* ---------------------------------- Solution Class ---------------------------------- **/
+
+    /**
+     * The words found by a search that may have stopped early
+     */
+    public static final class Solution {
+
+        // instance vars
+        private final HashSet<String> words;
+        private final boolean isComplete;
+        private final long nodes;
+
+        private Solution(final HashSet<String> words, final boolean isComplete, final long nodes) {
+            this.words = words;
+            this.isComplete = isComplete;
+            this.nodes = nodes;
+        }
+
+        /**
+         * @return The words found
+         */
+        public HashSet<String> words() {
+            return words;
+        }
+
+        /**
+         * @return {@code True} if the whole board was searched, so every word was found, else {@code False}
+         */
+        public boolean isComplete() {
+            return isComplete;
+        }
+
+        /**
+         * @return The number of letters walked
+         */
+        public long nodes() {
+            return nodes;
+        }
+
+    }
+
     /* ---------------------------------- Board Class ---------------------------------- **/
 
     /**
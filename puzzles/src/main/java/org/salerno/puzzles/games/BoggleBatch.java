@@ -0,0 +1,221 @@
+package org.salerno.puzzles.games;
+
+import org.salerno.model.trees.WordSearch;
+
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Solves many Boggle boards of one size on a fixed pool of threads, sharing one read-only lexicon.
+ * <br><br>
+ * Boards are pulled from an {@code Iterator} or {@code Stream} only as fast as they are solved: at most
+ * {@code maxInFlight} boards are queued or being solved at any time, so a batch of millions of boards needs no more
+ * memory than a batch of a few. Results come back in the order the boards were given. Each thread keeps its own
+ * {@link BoardSolver}, so the setup of a solver is paid once per thread rather than once per board.
+ * <br><br>
+ * A batch can be used by one caller at a time. Close it to stop its threads.
+ *
+ * @author alex.salerno@me.com
+ * @since Oct-2026
+ */
+public final class BoggleBatch implements AutoCloseable {
+
+    // instance vars
+    private final ExecutorService pool;
+    private final ThreadLocal<BoardSolver> solvers;
+    private final int maxInFlight;
+
+    /* ---------------------------------- Constructor Methods ---------------------------------- **/
+
+    /**
+     * @param lexicon A prebuilt lexicon, shared by every thread
+     * @param threads The number of threads that solve boards
+     * @param maxInFlight The most boards that are queued or being solved at any time, at least {@code threads}
+     *                    keeps every thread busy
+     * @throws IllegalArgumentException if the threads or the boards in flight are less than 1
+     */
+    public BoggleBatch(final WordSearch lexicon, final int threads, final int maxInFlight) {
+        if(threads < 1) throw new IllegalArgumentException("Threads must be at least 1: " + threads);
+        if(maxInFlight < 1) throw new IllegalArgumentException("Boards in flight must be at least 1: " + maxInFlight);
+        this.pool = Executors.newFixedThreadPool(threads, runnable -> {
+            final Thread thread = new Thread(runnable, "boggle-batch");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.solvers = ThreadLocal.withInitial(() -> new BoardSolver(lexicon, Boggle.MIN_NUM_LETTERS));
+        this.maxInFlight = maxInFlight;
+    }
+
+    /* ---------------------------------- Public Methods ---------------------------------- **/
+
+    /**
+     * Solves every board and passes the results to the consumer on the calling thread, in the order the boards
+     * were given. Returns once every board is solved.
+     *
+     * @param width The Boggle board width, starting with 1
+     * @param height The Boggle board height, starting with 1
+     * @param boards The letters of each board, see {@link Boggle#solveBoard(int, int, String)}
+     * @param resultOut Receives the words of each board, a board with the wrong number of letters has none
+     * @return The number of boards solved and how long they took
+     */
+    public Stats solve(final int width, final int height, final Iterator<String> boards,
+                       final Consumer<HashSet<String>> resultOut) {
+        final long start = System.nanoTime();
+        final Pipeline pipeline = new Pipeline(width, height, boards);
+        long count = 0;
+        try {
+            while(pipeline.tryAdvance(resultOut)) count++;
+        } finally {
+            pipeline.cancel();
+        }
+        return new Stats(count, System.nanoTime() - start);
+    }
+
+    /**
+     * Solves the boards lazily, as the returned stream is consumed. The stream is sequential and ordered, closing it
+     * early cancels the boards in flight.
+     *
+     * @param width The Boggle board width, starting with 1
+     * @param height The Boggle board height, starting with 1
+     * @param boards The letters of each board, see {@link Boggle#solveBoard(int, int, String)}
+     * @return The words of each board, in the order the boards were given
+     */
+    public Stream<HashSet<String>> solve(final int width, final int height, final Stream<String> boards) {
+        final Pipeline pipeline = new Pipeline(width, height, boards.iterator());
+        return StreamSupport.stream(pipeline, false)
+                .onClose(pipeline::cancel)
+                .onClose(boards::close);
+    }
+
+    /**
+     * Stops the threads. Boards in flight are abandoned.
+     */
+    @Override
+    public void close() {
+        pool.shutdownNow();
+    }
+
+    /* ---------------------------------- Private Methods ---------------------------------- **/
+
+    /**
+     * @param grid The size of the board, {@code null} if the size is not valid
+     * @param boardLetters The letters of the board
+     * @return The words on the board
+     */
+    private HashSet<String> solveBoard(final BoardSolver.Grid grid, final String boardLetters) {
+        final HashSet<String> results = new HashSet<>();
+        if(grid == null || !Boggle.isValidBoard(grid.width, grid.height, boardLetters)) return results;
+        solvers.get().solve(grid, boardLetters, results::add);
+        return results;
+    }
+
+    /* ---------------------------------- Pipeline Class ---------------------------------- **/
+
+    /**
+     * Pulls boards as results are taken, keeping up to {@code maxInFlight} boards on the pool
+     */
+    private final class Pipeline extends Spliterators.AbstractSpliterator<HashSet<String>> {
+
+        // instance vars
+        private final BoardSolver.Grid grid;
+        private final Iterator<String> boards;
+        private final ArrayDeque<Future<HashSet<String>>> inFlight = new ArrayDeque<>();
+
+        private Pipeline(final int width, final int height, final Iterator<String> boards) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.grid = width > 0 && height > 0 ? BoardSolver.Grid.of(width, height) : null;
+            this.boards = boards;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super HashSet<String>> action) {
+            // top up the boards in flight, then wait for the oldest one
+            while(inFlight.size() < maxInFlight && boards.hasNext()) {
+                final String boardLetters = boards.next();
+                inFlight.add(pool.submit(() -> solveBoard(grid, boardLetters)));
+            }
+            if(inFlight.isEmpty()) return false;
+            action.accept(await(inFlight.poll()));
+            return true;
+        }
+
+        /**
+         * Cancels the boards in flight
+         */
+        private void cancel() {
+            while(!inFlight.isEmpty()) inFlight.poll().cancel(true);
+        }
+
+        /**
+         * @param future A board in flight
+         * @return The words of the board
+         */
+        private HashSet<String> await(final Future<HashSet<String>> future) {
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException("Interrupted while solving boards");
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Failed to solve board", e.getCause());
+            }
+        }
+
+    }
+
+    /* ---------------------------------- Stats Class ---------------------------------- **/
+
+    /**
+     * The number of boards solved by a call and how long they took
+     */
+    public static final class Stats {
+
+        // instance vars
+        private final long boards;
+        private final long nanos;
+
+        private Stats(final long boards, final long nanos) {
+            this.boards = boards;
+            this.nanos = nanos;
+        }
+
+        /**
+         * @return The number of boards solved
+         */
+        public long boards() {
+            return boards;
+        }
+
+        /**
+         * @return The time from the first board being pulled to the last result being passed on, in nanoseconds
+         */
+        public long nanos() {
+            return nanos;
+        }
+
+        /**
+         * @return The number of boards solved per second
+         */
+        public double boardsPerSecond() {
+            return nanos == 0 ? 0 : boards * 1e9 / nanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d boards in %.3fs, %.0f boards/s", boards, nanos / 1e9, boardsPerSecond());
+        }
+
+    }
+
+}
@@ -0,0 +1,203 @@
+package org.salerno.puzzles.games;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded cache of Boggle solutions in front of a {@link Boggle} solver.
+ * <br><br>
+ * Rotating or reflecting a board moves its letters without changing which letters are neighbors, so every rotation
+ * and reflection of a board has the same words. Boards are cached by a canonical form, the smallest of the boards
+ * reached by the 8 rotations and reflections of a square board, or by the 4 that keep the shape of a rectangular
+ * board. A board and all of its symmetric boards share one entry.
+ * <br><br>
+ * When the cache is full the least recently used board is evicted. The cache is thread-safe, and boards are solved
+ * outside of its lock, so two threads that miss on the same board at the same time both solve it. Once words are
+ * added to or removed from the lexicon, see {@link org.salerno.model.trees.WordSearch#version()}, every board is
+ * dropped, since its words may have changed.
+ *
+ * @author alex.salerno@me.com
+ * @since Oct-2026
+ */
+public final class BoggleCache {
+
+    // instance vars
+    private final Boggle boggle;
+    private final LinkedHashMap<String, HashSet<String>> solutions;
+    /** the version of the lexicon the boards were solved with, guarded by the lock of the solutions */
+    private long version;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /* ---------------------------------- Constructor Methods ---------------------------------- **/
+
+    /**
+     * @param boggle The solver to cache
+     * @param maxBoards The most boards to keep
+     * @throws IllegalArgumentException if the most boards is less than 1
+     */
+    public BoggleCache(final Boggle boggle, final int maxBoards) {
+        if(maxBoards < 1) throw new IllegalArgumentException("Cache must hold at least 1 board: " + maxBoards);
+        this.boggle = boggle;
+        this.version = boggle.wordSearchTree.version();
+        // access order, so the eldest entry is the least recently used
+        this.solutions = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, HashSet<String>> eldest) {
+                if(size() <= maxBoards) return false;
+                evictions.increment();
+                return true;
+            }
+        };
+    }
+
+    /* ---------------------------------- Public Methods ---------------------------------- **/
+
+    /**
+     * @param width The Boggle board width, starting with 1
+     * @param height The Boggle board height, starting with 1
+     * @param boardLetters A string of letters representing the Boggle letters starting from the upper-left of the board from left to right
+     * @return A list of words that are valid solutions, a copy that the caller can change
+     * @see Boggle#solveBoard(int, int, String)
+     */
+    public HashSet<String> solveBoard(final int width, final int height, final String boardLetters) {
+        // bad boards have no words and are not worth caching
+        if(!Boggle.isValidBoard(width, height, boardLetters)) return new HashSet<>();
+
+        final String key = canonicalKey(width, height, boardLetters);
+        // read before solving, so a board solved while the lexicon changes is kept no longer than the old version
+        final long version = boggle.wordSearchTree.version();
+        HashSet<String> solution;
+        synchronized(solutions) {
+            if(version != this.version) {
+                solutions.clear();
+                this.version = version;
+            }
+            solution = solutions.get(key);
+        }
+        if(solution != null) {
+            hits.increment();
+            return new HashSet<>(solution);
+        }
+
+        misses.increment();
+        solution = boggle.solveBoard(width, height, boardLetters);
+        synchronized(solutions) {
+            if(version == this.version) solutions.put(key, solution);
+        }
+        return new HashSet<>(solution);
+    }
+
+    /**
+     * @return The number of boards found in the cache
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return The number of boards that were solved
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return The number of boards evicted to make room for others
+     */
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return The share of boards found in the cache, from 0 to 1
+     */
+    public double hitRate() {
+        final long hits = hits();
+        final long total = hits + misses();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    /**
+     * @return The number of boards in the cache
+     */
+    public int size() {
+        synchronized(solutions) {
+            return solutions.size();
+        }
+    }
+
+    /**
+     * Removes every board, the statistics are kept
+     */
+    public void clear() {
+        synchronized(solutions) {
+            solutions.clear();
+        }
+    }
+
+    /* ---------------------------------- Package Methods ---------------------------------- **/
+
+    /**
+     * @param width The Boggle board width, starting with 1
+     * @param height The Boggle board height, starting with 1
+     * @param boardLetters The letters of the board
+     * @return The size of the board and the smallest of its symmetric boards, the same for every symmetric board
+     */
+    static String canonicalKey(final int width, final int height, final String boardLetters) {
+        final int transforms = width == height ? 8 : 4;
+        int best = 0;
+        for(int transform = 1; transform < transforms; transform++) {
+            if(compare(width, height, boardLetters, transform, best) < 0) best = transform;
+        }
+
+        final char[] canonical = new char[boardLetters.length()];
+        for(int cell = 0; cell < canonical.length; cell++) {
+            canonical[cell] = boardLetters.charAt(source(width, height, best, cell));
+        }
+        return width + "x" + height + ":" + String.valueOf(canonical);
+    }
+
+    /* ---------------------------------- Private Methods ---------------------------------- **/
+
+    /**
+     * Compares two symmetric boards letter by letter, without building either of them
+     *
+     * @return A negative number, zero or a positive number if the first board is smaller, equal or larger
+     */
+    private static int compare(final int width, final int height, final String boardLetters, final int first, final int second) {
+        for(int cell = 0; cell < boardLetters.length(); cell++) {
+            final int difference = boardLetters.charAt(source(width, height, first, cell))
+                    - boardLetters.charAt(source(width, height, second, cell));
+            if(difference != 0) return difference;
+        }
+        return 0;
+    }
+
+    /**
+     * Transforms 0 to 3 are the identity, a horizontal flip, a vertical flip and a half turn, which keep the shape
+     * of any board. Transforms 4 to 7 also swap rows and columns, so they only apply to square boards.
+     *
+     * @param width The Boggle board width
+     * @param height The Boggle board height
+     * @param transform The transform, from 0 to 7
+     * @param cell A cell of the transformed board
+     * @return The cell of the original board that moves to the given cell
+     */
+    private static int source(final int width, final int height, final int transform, final int cell) {
+        int x = cell % width;
+        int y = cell / width;
+        if((transform & 4) != 0) {
+            final int swap = x;
+            x = y;
+            y = swap;
+        }
+        if((transform & 1) != 0) x = width - 1 - x;
+        if((transform & 2) != 0) y = height - 1 - y;
+        return y * width + x;
+    }
+
+}
@@ -0,0 +1,342 @@
+package org.salerno.puzzles.games;
+
+import org.salerno.model.trees.WordSearch;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates Boggle boards with high scores by simulated annealing.
+ * <br><br>
+ * Each restart begins from a random board and makes a series of moves, either swapping two tiles or changing one
+ * tile to a random letter drawn by how common the letter is in English. A move that raises the score is always
+ * kept, and a move that lowers it is kept with a chance that falls as the search cools, which lets the search
+ * climb out of boards that no single move improves. Boards are scored with {@link Boggle#score(Iterable)}.
+ * <br><br>
+ * Small boards are scored again by a reused {@link BoardSolver} after each move. Large boards are scored with an
+ * {@link IncrementalBoggle}, which only searches around the tiles that changed. Restarts are independent and run in
+ * parallel, each with its own stream split in order from the generator's seed, so the same seed gives the same board
+ * unless the time budget runs out, and different seeds never share a restart's stream.
+ *
+ * @author alex.salerno@me.com
+ * @since Oct-2026
+ */
+public final class BoggleGenerator {
+
+    // constants
+    /** Letters in proportion to how common they are in English */
+    private static final String LETTERS = "eeeeeeeeeeeetttttttttaaaaaaaaoooooooiiiiiiinnnnnnnssssss"
+            + "hhhhhhrrrrrrddddllllcccuuummwwffggyyppbvkjxqz";
+    /** Boards with at least this many cells are scored incrementally, smaller boards are solved again */
+    private static final int INCREMENTAL_MIN_CELLS = 400;
+    /** Temperature at the start of a restart, in points */
+    private static final double START_TEMPERATURE = 8;
+    /** Temperature at the end of a restart, in points */
+    private static final double END_TEMPERATURE = 0.1;
+
+    // instance vars
+    private final WordSearch lexicon;
+    private final int parallelism;
+    private final long seed;
+
+    /* ---------------------------------- Constructor Methods ---------------------------------- **/
+
+    /**
+     * @param lexicon The words that score
+     * @param parallelism The number of restarts run at the same time
+     * @param seed The seed of the random boards and moves
+     * @throws IllegalArgumentException if the parallelism is less than 1
+     */
+    public BoggleGenerator(final WordSearch lexicon, final int parallelism, final long seed) {
+        if(parallelism < 1) throw new IllegalArgumentException("Parallelism must be at least 1: " + parallelism);
+        this.lexicon = lexicon;
+        this.parallelism = parallelism;
+        this.seed = seed;
+    }
+
+    /* ---------------------------------- Public Methods ---------------------------------- **/
+
+    /**
+     * @param width The Boggle board width, starting with 1
+     * @param height The Boggle board height, starting with 1
+     * @param restarts The number of independent searches, the best board of all of them is returned
+     * @param moves The number of moves made by each restart
+     * @param timeBudget How long to search for, or {@code null} for no limit. A restart that is still running when
+     *                   the time is up stops and offers the best board it has found.
+     * @return The best board found
+     * @throws IllegalArgumentException if the board size, the restarts or the moves are less than 1
+     */
+    public Result generate(final int width, final int height, final int restarts, final int moves, final Duration timeBudget) {
+        if(width < 1 || height < 1) throw new IllegalArgumentException("Board must be at least 1x1: " + width + "x" + height);
+        if(restarts < 1) throw new IllegalArgumentException("Restarts must be at least 1: " + restarts);
+        if(moves < 1) throw new IllegalArgumentException("Moves must be at least 1: " + moves);
+
+        final long start = System.nanoTime();
+        final long deadline = timeBudget == null ? Long.MAX_VALUE : start + timeBudget.toNanos();
+        final AtomicLong evaluations = new AtomicLong();
+        final ExecutorService pool = Executors.newFixedThreadPool(Math.min(parallelism, restarts));
+        try {
+            final List<Future<Restart>> futures = new ArrayList<>();
+            // one independent stream per restart, split in order so that no two seeds share a stream
+            final SplittableRandom seeds = new SplittableRandom(seed);
+            for(int restart = 0; restart < restarts; restart++) {
+                final SplittableRandom random = seeds.split();
+                futures.add(pool.submit(() -> anneal(width, height, moves, deadline, random, evaluations)));
+            }
+
+            // the best board, the earliest restart wins a tie so a seed always gives the same board
+            Restart best = null;
+            for(Future<Restart> future : futures) {
+                final Restart restart = future.get();
+                if(best == null || restart.score > best.score) best = restart;
+            }
+            return new Result(best.board, best.score, evaluations.get(), System.nanoTime() - start);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while generating boards", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to generate board", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /* ---------------------------------- Private Methods ---------------------------------- **/
+
+    /**
+     * One restart, from a random board
+     *
+     * @return The best board seen
+     */
+    private Restart anneal(final int width, final int height, final int moves, final long deadline, final SplittableRandom random,
+                           final AtomicLong evaluations) {
+        final char[] letters = new char[width * height];
+        for(int cell = 0; cell < letters.length; cell++) {
+            letters[cell] = randomLetter(random);
+        }
+        final Scorer board = letters.length >= INCREMENTAL_MIN_CELLS
+                ? new IncrementalScorer(lexicon, width, height, letters)
+                : new FullScorer(lexicon, width, height, letters);
+        int score = board.score();
+        Restart best = new Restart(String.valueOf(letters), score);
+
+        // cool geometrically from the start to the end temperature
+        final double cooling = Math.pow(END_TEMPERATURE / START_TEMPERATURE, 1.0 / moves);
+        double temperature = START_TEMPERATURE;
+        int move = 0;
+        for(; move < moves && System.nanoTime() < deadline; move++, temperature *= cooling) {
+            final int first = random.nextInt(letters.length);
+            final int second = random.nextInt(letters.length);
+            final char firstLetter = letters[first];
+            final char secondLetter = letters[second];
+            // swap two tiles, or change one if they are the same letter or half of the time
+            final boolean isSwap = firstLetter != secondLetter && random.nextBoolean();
+            final char newLetter = isSwap ? secondLetter : randomLetter(random);
+
+            setTile(board, letters, first, newLetter);
+            if(isSwap) setTile(board, letters, second, firstLetter);
+            final int change = board.score() - score;
+
+            if(change >= 0 || random.nextDouble() < Math.exp(change / temperature)) {
+                score += change;
+                if(score > best.score) best = new Restart(String.valueOf(letters), score);
+            } else {
+                // undo the move
+                if(isSwap) setTile(board, letters, second, secondLetter);
+                setTile(board, letters, first, firstLetter);
+            }
+        }
+        evaluations.addAndGet(move);
+        return best;
+    }
+
+    /**
+     * @param board The scorer of the board
+     * @param letters The letters of the board
+     * @param cell The cell of the tile
+     * @param letter The new letter of the tile
+     */
+    private static void setTile(final Scorer board, final char[] letters, final int cell, final char letter) {
+        letters[cell] = letter;
+        board.setTile(cell, letter);
+    }
+
+    /**
+     * @param random The source of randomness
+     * @return A letter, drawn by how common it is in English
+     */
+    private static char randomLetter(final SplittableRandom random) {
+        return LETTERS.charAt(random.nextInt(LETTERS.length()));
+    }
+
+    /* ---------------------------------- Scorer Classes ---------------------------------- **/
+
+    /**
+     * Keeps the score of a board as its tiles change
+     */
+    private interface Scorer {
+
+        /**
+         * @param cell The cell of the tile
+         * @param letter The new letter of the tile
+         */
+        void setTile(int cell, char letter);
+
+        /**
+         * @return The score of the board
+         */
+        int score();
+
+    }
+
+    /**
+     * Solves the whole board again when the score is asked for. On small boards every tile is close to every
+     * other, so this is cheaper than keeping the paths of every word up to date.
+     */
+    private static final class FullScorer implements Scorer {
+
+        // instance vars
+        private final BoardSolver solver;
+        private final BoardSolver.Grid grid;
+        private final char[] letters;
+        private final HashSet<String> words = new HashSet<>();
+        private boolean isChanged = true;
+        private int score;
+
+        private FullScorer(final WordSearch lexicon, final int width, final int height, final char[] letters) {
+            this.solver = new BoardSolver(lexicon, Boggle.MIN_NUM_LETTERS);
+            this.grid = BoardSolver.Grid.of(width, height);
+            this.letters = letters.clone();
+        }
+
+        @Override
+        public void setTile(final int cell, final char letter) {
+            isChanged |= letters[cell] != letter;
+            letters[cell] = letter;
+        }
+
+        @Override
+        public int score() {
+            if(isChanged) {
+                words.clear();
+                solver.solve(grid, String.valueOf(letters), words::add);
+                score = Boggle.score(words);
+                isChanged = false;
+            }
+            return score;
+        }
+
+    }
+
+    /**
+     * Keeps the words of the board up to date with an {@link IncrementalBoggle}, which pays off once the board is
+     * large enough that most of it is out of reach of a changed tile
+     */
+    private static final class IncrementalScorer implements Scorer {
+
+        // instance vars
+        private final IncrementalBoggle board;
+        private final int width;
+        private int score;
+
+        private IncrementalScorer(final WordSearch lexicon, final int width, final int height, final char[] letters) {
+            this.board = new IncrementalBoggle(lexicon, width, height, String.valueOf(letters));
+            this.width = width;
+            this.score = Boggle.score(board.words());
+        }
+
+        @Override
+        public void setTile(final int cell, final char letter) {
+            final IncrementalBoggle.Delta delta = board.setTile(cell % width, cell / width, letter);
+            score += Boggle.score(delta.added()) - Boggle.score(delta.removed());
+        }
+
+        @Override
+        public int score() {
+            return score;
+        }
+
+    }
+
+    /* ---------------------------------- Restart Class ---------------------------------- **/
+
+    /**
+     * The best board of one restart
+     */
+    private static final class Restart {
+
+        // instance vars
+        final String board;
+        final int score;
+
+        private Restart(final String board, final int score) {
+            this.board = board;
+            this.score = score;
+        }
+
+    }
+
+    /* ---------------------------------- Result Class ---------------------------------- **/
+
+    /**
+     * The best board generated and how much work it took
+     */
+    public static final class Result {
+
+        // instance vars
+        private final String board;
+        private final int score;
+        private final long evaluations;
+        private final long nanos;
+
+        private Result(final String board, final int score, final long evaluations, final long nanos) {
+            this.board = board;
+            this.score = score;
+            this.evaluations = evaluations;
+            this.nanos = nanos;
+        }
+
+        /**
+         * @return The letters of the board from the upper-left, left to right
+         */
+        public String board() {
+            return board;
+        }
+
+        /**
+         * @return The score of the board
+         */
+        public int score() {
+            return score;
+        }
+
+        /**
+         * @return The number of moves scored by every restart
+         */
+        public long evaluations() {
+            return evaluations;
+        }
+
+        /**
+         * @return The number of moves scored per second, across every restart
+         */
+        public double evaluationsPerSecond() {
+            return nanos == 0 ? 0 : evaluations * 1e9 / nanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s scores %d, %d moves in %.3fs, %.0f moves/s", board, score, evaluations, nanos / 1e9, evaluationsPerSecond());
+        }
+
+    }
+
+}
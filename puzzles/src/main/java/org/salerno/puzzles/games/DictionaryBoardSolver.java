@@ -0,0 +1,336 @@
+package org.salerno.puzzles.games;
+
+import org.salerno.model.trees.WordSearch;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Finds the words on a Boggle board by checking every word of the lexicon against the board, rather than searching
+ * the board for words. This is cheaper than a {@link BoardSolver} when the lexicon is small and the board is large.
+ * <br><br>
+ * The lexicon is packed once into arrays of letters, along with a bit mask of the letters of each word and a hashed
+ * bit mask of its pairs of letters. Each board gets the same masks, a bit set of the pairs of letters that are
+ * neighbors somewhere on it and a count of each letter. A word is rejected in O(1) if it has a letter or a pair of
+ * letters the board does not, then if it has a pair of letters that are never neighbors or more of a letter than
+ * the board, and only the words left are looked for on the board. A word is followed from each cell of its first
+ * letter that is next to its second letter, or backwards from its last two letters if they have fewer cells.
+ * <br><br>
+ * Only boards of the letters 'a' to 'z' can be solved, see {@link #canSolve(String)}. Each word is found once,
+ * however many paths spell it. A solver is not thread-safe, but any number of solvers can share the same words.
+ *
+ * @author alex.salerno@me.com
+ * @since Oct-2026
+ */
+final class DictionaryBoardSolver {
+
+    // constants
+    /** Number of letters from 'a' to 'z' */
+    private static final int LETTERS = 26;
+    /** Number of pairs of letters */
+    private static final int BIGRAMS = LETTERS * LETTERS;
+
+    // instance vars
+    private final Words words;
+    private char[] board = new char[16];
+    private long[] visited = new long[1];
+    private BoardSolver.Grid grid;
+
+    // board vars
+    /** Letters on the board, bit {@code n} for the letter {@code 'a' + n} */
+    private long letterMask;
+    /** Pairs of letters that are neighbors on the board, hashed to 64 bits, see {@link #bigramBit(int, int)} */
+    private long bigramMask;
+    /** Pairs of letters that are neighbors on the board, bit {@code first * 26 + second} */
+    private final long[] bigrams = new long[(BIGRAMS + 63) >>> 6];
+    /** Number of each letter on the board */
+    private final int[] letterCounts = new int[LETTERS];
+    /** Number of each letter in the word being checked */
+    private final int[] wordCounts = new int[LETTERS];
+    /** Letters of the neighbors of each cell, bit {@code n} for the letter {@code 'a' + n} */
+    private int[] neighborLetters = new int[16];
+    /**
+     * Cells of each pair of letters that start there, the cells whose letter is {@code first} with a neighbor whose
+     * letter is {@code second} are {@code bigramCells[firstBigramCell[first * 26 + second]]} onward
+     */
+    private final int[] firstBigramCell = new int[BIGRAMS + 1];
+    private int[] bigramCells = new int[16];
+
+    /* ---------------------------------- Constructor Methods ---------------------------------- **/
+
+    /**
+     * @param words The words of a lexicon, shared between solvers
+     */
+    DictionaryBoardSolver(final Words words) {
+        this.words = words;
+    }
+
+    /* ---------------------------------- Solver Methods ---------------------------------- **/
+
+    /**
+     * @param boardLetters The letters of a board
+     * @return {@code True} if every letter of the board is from 'a' to 'z', else {@code False}
+     */
+    static boolean canSolve(final String boardLetters) {
+        for(int i = 0; i < boardLetters.length(); i++) {
+            final char letter = boardLetters.charAt(i);
+            if(letter < 'a' || letter > 'z') return false;
+        }
+        return true;
+    }
+
+    /**
+     * Finds every word on the board, see {@link #canSolve(String)}
+     *
+     * @param grid The size of the board
+     * @param boardLetters The letters of the board from the upper-left, left to right, one per cell
+     * @param resultOut Receives each word that is found, once
+     */
+    void solve(final BoardSolver.Grid grid, final String boardLetters, final Consumer<String> resultOut) {
+        prepare(grid, boardLetters);
+        for(int word = 0; word < words.count; word++) {
+            // reject words with a letter or pair of letters that is not on the board (performance!)
+            if((words.letterMasks[word] & ~letterMask) != 0) continue;
+            if((words.bigramMasks[word] & ~bigramMask) != 0) continue;
+            if(!isPlausible(words.starts[word], words.starts[word + 1])) continue;
+            if(isOnBoard(words.starts[word], words.starts[word + 1])) {
+                resultOut.accept(new String(words.letters, words.starts[word], words.starts[word + 1] - words.starts[word]));
+            }
+        }
+    }
+
+    /* ---------------------------------- Private Methods ---------------------------------- **/
+
+    /**
+     * Loads a board and builds its masks
+     *
+     * @param grid The size of the board
+     * @param boardLetters The letters of the board
+     */
+    private void prepare(final BoardSolver.Grid grid, final String boardLetters) {
+        if(grid.cellCount > board.length) {
+            board = new char[grid.cellCount];
+            neighborLetters = new int[grid.cellCount];
+        }
+        if(grid.cellCount > visited.length * Long.SIZE) visited = new long[(grid.cellCount + 63) >>> 6];
+        boardLetters.getChars(0, grid.cellCount, board, 0);
+        this.grid = grid;
+
+        letterMask = 0;
+        bigramMask = 0;
+        Arrays.fill(bigrams, 0);
+        Arrays.fill(letterCounts, 0);
+        for(int cell = 0; cell < grid.cellCount; cell++) {
+            final int letter = board[cell] - 'a';
+            letterMask |= 1L << letter;
+            letterCounts[letter]++;
+            neighborLetters[cell] = 0;
+            for(int edge = grid.firstNeighbor[cell]; edge < grid.firstNeighbor[cell + 1]; edge++) {
+                final int next = board[grid.neighbors[edge]] - 'a';
+                final int bigram = letter * LETTERS + next;
+                bigrams[bigram >>> 6] |= 1L << bigram;
+                bigramMask |= bigramBit(letter, next);
+                neighborLetters[cell] |= 1 << next;
+            }
+        }
+
+        // bucket the cells by their letter and the letter of each neighbor, each cell once per bucket
+        Arrays.fill(firstBigramCell, 0);
+        for(int cell = 0; cell < grid.cellCount; cell++) {
+            final int first = (board[cell] - 'a') * LETTERS;
+            for(int letters = neighborLetters[cell]; letters != 0; letters &= letters - 1) {
+                firstBigramCell[first + Integer.numberOfTrailingZeros(letters)]++;
+            }
+        }
+        // each bucket ends where the next one starts
+        for(int bigram = 1; bigram < BIGRAMS; bigram++) {
+            firstBigramCell[bigram] += firstBigramCell[bigram - 1];
+        }
+        firstBigramCell[BIGRAMS] = firstBigramCell[BIGRAMS - 1];
+        if(firstBigramCell[BIGRAMS] > bigramCells.length) bigramCells = new int[firstBigramCell[BIGRAMS]];
+        // fill each bucket from its end, leaving firstBigramCell at the start of each bucket
+        for(int cell = grid.cellCount - 1; cell >= 0; cell--) {
+            final int first = (board[cell] - 'a') * LETTERS;
+            for(int letters = neighborLetters[cell]; letters != 0; letters &= letters - 1) {
+                bigramCells[--firstBigramCell[first + Integer.numberOfTrailingZeros(letters)]] = cell;
+            }
+        }
+    }
+
+    /**
+     * @param start The index of the first letter of a word
+     * @param end The index after the last letter of the word
+     * @return {@code True} if each pair of letters of the word is a pair of neighbors on the board and the board has
+     *         enough of each letter, else {@code False}
+     */
+    private boolean isPlausible(final int start, final int end) {
+        final char[] letters = words.letters;
+        for(int i = start + 1; i < end; i++) {
+            final int bigram = (letters[i - 1] - 'a') * LETTERS + letters[i] - 'a';
+            if((bigrams[bigram >>> 6] & (1L << bigram)) == 0) return false;
+        }
+
+        boolean isPlausible = true;
+        for(int i = start; i < end; i++) {
+            if(++wordCounts[letters[i] - 'a'] > letterCounts[letters[i] - 'a']) isPlausible = false;
+        }
+        for(int i = start; i < end; i++) {
+            wordCounts[letters[i] - 'a'] = 0;
+        }
+        return isPlausible;
+    }
+
+    /**
+     * @param start The index of the first letter of a word
+     * @param end The index after the last letter of the word
+     * @return {@code True} if a path on the board spells the word, else {@code False}
+     */
+    private boolean isOnBoard(final int start, final int end) {
+        // a path read backwards is a path too, so start from whichever end of the word has fewer cells
+        final char[] letters = words.letters;
+        final int forward = (letters[start] - 'a') * LETTERS + letters[start + 1] - 'a';
+        final int backward = (letters[end - 1] - 'a') * LETTERS + letters[end - 2] - 'a';
+        final boolean isForward = firstBigramCell[forward + 1] - firstBigramCell[forward]
+                <= firstBigramCell[backward + 1] - firstBigramCell[backward];
+        final int bigram = isForward ? forward : backward;
+        for(int i = firstBigramCell[bigram]; i < firstBigramCell[bigram + 1]; i++) {
+            if(isForward ? traverseBoard(bigramCells[i], start + 1, end, 1) : traverseBoard(bigramCells[i], end - 2, start - 1, -1)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A dfs recursive method that follows a word across the board
+     *
+     * @param cell The cell of the last letter matched
+     * @param index The index of the next letter of the word
+     * @param end The index past the last letter to match
+     * @param step 1 to follow the word forwards, -1 to follow it backwards
+     * @return {@code True} if the rest of the word is spelled by a path from the cell, else {@code False}
+     */
+    private boolean traverseBoard(final int cell, final int index, final int end, final int step) {
+        if(index == end) return true;
+        final char letter = words.letters[index];
+        boolean isFound = false;
+        visited[cell >>> 6] |= 1L << cell;
+        for(int edge = grid.firstNeighbor[cell]; edge < grid.firstNeighbor[cell + 1] && !isFound; edge++) {
+            final int next = grid.neighbors[edge];
+            if(board[next] != letter || (visited[next >>> 6] & (1L << next)) != 0) continue;
+            isFound = traverseBoard(next, index + step, end, step);
+        }
+        visited[cell >>> 6] &= ~(1L << cell);
+        return isFound;
+    }
+
+    /**
+     * @param first A letter, from 0 for 'a'
+     * @param second The next letter, from 0 for 'a'
+     * @return The bit of the pair of letters in a hashed mask of pairs
+     */
+    private static long bigramBit(final int first, final int second) {
+        return 1L << (((first * LETTERS + second) * 0x9E3779B97F4A7C15L) >>> 58);
+    }
+
+    /* ---------------------------------- Words Class ---------------------------------- **/
+
+    /**
+     * The words of a lexicon spelled with the letters 'a' to 'z', packed into arrays with the masks of each word.
+     * Immutable once built.
+     */
+    static final class Words {
+
+        // instance vars
+        /** Number of words */
+        final int count;
+        /** Letters of every word, word {@code n} is {@code letters[starts[n]]} to {@code letters[starts[n+1]-1]} */
+        private final char[] letters;
+        private final int[] starts;
+        private final long[] letterMasks;
+        private final long[] bigramMasks;
+
+        private Words(final int count, final char[] letters, final int[] starts) {
+            this.count = count;
+            this.letters = letters;
+            this.starts = starts;
+            this.letterMasks = new long[count];
+            this.bigramMasks = new long[count];
+            for(int word = 0; word < count; word++) {
+                for(int i = starts[word]; i < starts[word + 1]; i++) {
+                    letterMasks[word] |= 1L << (letters[i] - 'a');
+                    if(i > starts[word]) bigramMasks[word] |= bigramBit(letters[i - 1] - 'a', letters[i] - 'a');
+                }
+            }
+        }
+
+        /**
+         * @param lexicon A lexicon
+         * @param minLetters Minimum number of letters that can constitute a word
+         * @param maxWords The most words to pack, the walk stops once there are more
+         * @return The words of the lexicon with at least the minimum number of letters, or {@code null} if there are
+         *         more than the most words
+         */
+        static Words of(final WordSearch lexicon, final int minLetters, final int maxWords) {
+            final Walk walk = new Walk(lexicon.cursor(), minLetters, maxWords);
+            walk.walk(0);
+            if(walk.count > maxWords) return null;
+            return new Words(walk.count, Arrays.copyOf(walk.letters, walk.length), Arrays.copyOf(walk.starts, walk.count + 1));
+        }
+
+    }
+
+    /* ---------------------------------- Walk Class ---------------------------------- **/
+
+    /**
+     * Walks every word of the lexicon with a cursor, packing the words as it goes
+     */
+    private static final class Walk {
+
+        // instance vars
+        private final WordSearch.Cursor cursor;
+        private final int minLetters;
+        private final int maxWords;
+        /** the letters walked, grown for longer words */
+        private char[] path = new char[64];
+        private char[] letters = new char[1024];
+        private int[] starts = new int[128];
+        private int length;
+        private int count;
+
+        private Walk(final WordSearch.Cursor cursor, final int minLetters, final int maxWords) {
+            this.cursor = cursor;
+            this.minLetters = minLetters;
+            this.maxWords = maxWords;
+        }
+
+        /**
+         * A dfs recursive method that visits every word below the cursor, until there are more than the most words
+         *
+         * @param depth The number of letters walked
+         */
+        private void walk(final int depth) {
+            if(depth >= minLetters && cursor.isWord()) add(depth);
+            if(depth == path.length) path = Arrays.copyOf(path, path.length * 2);
+            for(char letter = 'a'; letter <= 'z' && count <= maxWords; letter++) {
+                if(!cursor.next(letter)) continue;
+                path[depth] = letter;
+                walk(depth + 1);
+                cursor.back();
+            }
+        }
+
+        /**
+         * Packs a word
+         */
+        private void add(final int depth) {
+            if(length + depth > letters.length) letters = Arrays.copyOf(letters, Math.max(letters.length * 2, length + depth));
+            if(count + 2 > starts.length) starts = Arrays.copyOf(starts, starts.length * 2);
+            System.arraycopy(path, 0, letters, length, depth);
+            length += depth;
+            starts[++count] = length;
+        }
+
+    }
+
+}
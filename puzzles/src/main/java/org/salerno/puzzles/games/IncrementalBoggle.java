@@ -0,0 +1,364 @@
+package org.salerno.puzzles.games;
+
+import org.salerno.model.trees.WordSearch;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * A Boggle board that is changed one tile at a time, keeping its words up to date without solving it again.
+ * <br><br>
+ * Every path that spells a word is kept, along with the paths through each cell and the number of paths of each
+ * word. When a tile changes only the paths through it can change: the old ones are dropped using the index and new
+ * ones are found by a search that must pass through the tile. A path can be no longer than the longest word in the
+ * lexicon, so the search only starts from cells that close to the tile and gives up on a branch once the tile is out
+ * of reach. The cost of a change depends on the neighborhood of the tile, not on the size of the board.
+ * <br><br>
+ * Not thread-safe.
+ *
+ * @author alex.salerno@me.com
+ * @since Oct-2026
+ */
+public final class IncrementalBoggle {
+
+    // instance vars
+    private final WordSearch.Cursor cursor;
+    private final BoardSolver.Grid grid;
+    private final char[] board;
+    private final long[] visited;
+    /** The letters that have been on the board, the longest word is found again when a new one is added */
+    private final BitSet alphabet = new BitSet();
+    /** An upper bound on the number of letters in a word on the board */
+    private int maxLetters;
+
+    // path vars
+    /** Cells of each path, {@code null} for a free path id */
+    private final ArrayList<int[]> pathCells = new ArrayList<>();
+    /** Word of each path */
+    private final ArrayList<String> pathWords = new ArrayList<>();
+    /** Path ids that can be used again */
+    private final IntList freePaths = new IntList();
+    /** Path ids through each cell */
+    private final IntList[] cellPaths;
+    /** Number of paths that spell each word on the board */
+    private final HashMap<String, Integer> wordPaths = new HashMap<>();
+
+    // search vars
+    private int[] path = new int[16];
+    private char[] word = new char[16];
+    private Delta delta;
+
+    /* ---------------------------------- Constructor Methods ---------------------------------- **/
+
+    /**
+     * Solves the board, keeping every path that spells a word
+     *
+     * @param lexicon The words to find
+     * @param width The Boggle board width, starting with 1
+     * @param height The Boggle board height, starting with 1
+     * @param boardLetters A string of letters representing the Boggle letters starting from the upper-left of the board from left to right
+     * @throws IllegalArgumentException if the letters do not fill a board of the given size
+     */
+    public IncrementalBoggle(final WordSearch lexicon, final int width, final int height, final String boardLetters) {
+        if(!Boggle.isValidBoard(width, height, boardLetters)) {
+            throw new IllegalArgumentException("Letters do not fill a " + width + "x" + height + " board: " + boardLetters);
+        }
+        this.cursor = lexicon.cursor();
+        this.grid = BoardSolver.Grid.of(width, height);
+        this.board = boardLetters.toCharArray();
+        this.visited = new long[(grid.cellCount + 63) >>> 6];
+        this.cellPaths = new IntList[grid.cellCount];
+        for(int cell = 0; cell < grid.cellCount; cell++) {
+            cellPaths[cell] = new IntList();
+        }
+
+        for(char letter : board) {
+            alphabet.set(letter);
+        }
+        maxLetters = longestWord();
+        // every path is new, so a search through no particular cell finds them all
+        delta = new Delta();
+        for(int cell = 0; cell < grid.cellCount; cell++) {
+            search(cell, -1);
+        }
+        delta = null;
+    }
+
+    /* ---------------------------------- Public Methods ---------------------------------- **/
+
+    /**
+     * Changes one tile, finding the words that are no longer on the board and the words that now are
+     *
+     * @param x X coordinate of the tile
+     * @param y Y coordinate of the tile
+     * @param letter The new letter of the tile
+     * @return The words added to and removed from the board
+     * @throws IndexOutOfBoundsException if the tile is not on the board
+     */
+    public Delta setTile(final int x, final int y, final char letter) {
+        if(x < 0 || y < 0 || x >= grid.width || y >= grid.height) {
+            throw new IndexOutOfBoundsException("Tile (" + x + "," + y + ") is not on a " + grid.width + "x" + grid.height + " board");
+        }
+        final int cell = y * grid.width + x;
+        delta = new Delta();
+        if(board[cell] != letter) {
+            // drop every path through the old letter
+            final IntList oldPaths = cellPaths[cell];
+            while(oldPaths.size > 0) removePath(oldPaths.values[oldPaths.size - 1]);
+
+            board[cell] = letter;
+            if(!alphabet.get(letter)) {
+                alphabet.set(letter);
+                maxLetters = longestWord();
+            }
+            // find every path through the new letter, from every cell close enough to reach it
+            final int reach = maxLetters - 1;
+            for(int startY = Math.max(0, y - reach); startY <= Math.min(grid.height - 1, y + reach); startY++) {
+                for(int startX = Math.max(0, x - reach); startX <= Math.min(grid.width - 1, x + reach); startX++) {
+                    search(startY * grid.width + startX, cell);
+                }
+            }
+        }
+        final Delta result = delta;
+        delta = null;
+        return result;
+    }
+
+    /**
+     * @param x X coordinate of the tile
+     * @param y Y coordinate of the tile
+     * @return The letter of the tile
+     * @throws IndexOutOfBoundsException if the tile is not on the board
+     */
+    public char tile(final int x, final int y) {
+        if(x < 0 || y < 0 || x >= grid.width || y >= grid.height) {
+            throw new IndexOutOfBoundsException("Tile (" + x + "," + y + ") is not on a " + grid.width + "x" + grid.height + " board");
+        }
+        return board[y * grid.width + x];
+    }
+
+    /**
+     * @return The words on the board, a view that changes with the board
+     */
+    public Set<String> words() {
+        return Collections.unmodifiableSet(wordPaths.keySet());
+    }
+
+    /**
+     * @return The letters of the board from the upper-left, left to right
+     */
+    public String board() {
+        return String.valueOf(board);
+    }
+
+    /**
+     * @return The number of paths that spell a word on the board
+     */
+    public int pathCount() {
+        return pathCells.size() - freePaths.size;
+    }
+
+    /* ---------------------------------- Private Methods ---------------------------------- **/
+
+    /**
+     * Finds the paths that start at a cell and pass through another
+     *
+     * @param start The first cell of every path
+     * @param through The cell every path passes through, or -1 to find every path
+     */
+    private void search(final int start, final int through) {
+        cursor.reset();
+        if(cursor.next(board[start])) traverseBoard(start, 1, through);
+    }
+
+    /**
+     * A dfs recursive method that finds the paths through a cell. The cursor is on the given cell when called and is
+     * left there on return.
+     *
+     * @param cell The current cell to search the board from
+     * @param depth The number of letters walked, including this cell
+     * @param through The cell every path passes through, or -1 to find every path
+     */
+    private void traverseBoard(final int cell, final int depth, final int through) {
+        if(depth > path.length) {
+            path = Arrays.copyOf(path, path.length * 2);
+            word = Arrays.copyOf(word, word.length * 2);
+        }
+        path[depth - 1] = cell;
+        word[depth - 1] = board[cell];
+        visited[cell >>> 6] |= 1L << cell;
+
+        final boolean isThrough = through < 0 || (visited[through >>> 6] & (1L << through)) != 0;
+        // if it's a word through the cell, keep the path
+        if(isThrough && depth >= Boggle.MIN_NUM_LETTERS && cursor.isWord()) addPath(depth);
+
+        // trim this branch if the cell can no longer be reached (performance!)
+        if(isThrough || distance(cell, through) <= maxLetters - depth) {
+            for(int edge = grid.firstNeighbor[cell]; edge < grid.firstNeighbor[cell + 1]; edge++) {
+                final int next = grid.neighbors[edge];
+                // is move already traversed
+                if((visited[next >>> 6] & (1L << next)) != 0) continue;
+                // if the next letter is not part of a word, trim this branch (performance!)
+                if(!cursor.next(board[next])) continue;
+                traverseBoard(next, depth + 1, through);
+                cursor.back();
+            }
+        }
+        visited[cell >>> 6] &= ~(1L << cell);
+    }
+
+    /**
+     * Keeps the path walked so far
+     *
+     * @param length The number of cells in the path
+     */
+    private void addPath(final int length) {
+        final int[] cells = Arrays.copyOf(path, length);
+        final String pathWord = new String(word, 0, length);
+        final int id;
+        if(freePaths.size > 0) {
+            id = freePaths.values[--freePaths.size];
+            pathCells.set(id, cells);
+            pathWords.set(id, pathWord);
+        } else {
+            id = pathCells.size();
+            pathCells.add(cells);
+            pathWords.add(pathWord);
+        }
+        for(int cell : cells) {
+            cellPaths[cell].add(id);
+        }
+
+        if(wordPaths.merge(pathWord, 1, Integer::sum) == 1) {
+            // a word that lost its paths through the old letter and has one through the new letter is unchanged
+            if(!delta.removed.remove(pathWord)) delta.added.add(pathWord);
+        }
+    }
+
+    /**
+     * Drops a path
+     *
+     * @param id The id of the path
+     */
+    private void removePath(final int id) {
+        final String pathWord = pathWords.get(id);
+        for(int cell : pathCells.get(id)) {
+            cellPaths[cell].remove(id);
+        }
+        pathCells.set(id, null);
+        pathWords.set(id, null);
+        freePaths.add(id);
+
+        if(wordPaths.merge(pathWord, -1, Integer::sum) == 0) {
+            wordPaths.remove(pathWord);
+            delta.removed.add(pathWord);
+        }
+    }
+
+    /**
+     * @param from A cell
+     * @param to A cell
+     * @return The number of moves between the cells
+     */
+    private int distance(final int from, final int to) {
+        return Math.max(Math.abs(from % grid.width - to % grid.width), Math.abs(from / grid.width - to / grid.width));
+    }
+
+    /**
+     * @return The number of letters in the longest word that can be spelled with letters that have been on the board
+     */
+    private int longestWord() {
+        cursor.reset();
+        return longestWord(0);
+    }
+
+    /**
+     * A dfs recursive method that walks every word spelled with letters that have been on the board
+     *
+     * @param depth The number of letters walked
+     * @return The number of letters in the longest word below the cursor
+     */
+    private int longestWord(final int depth) {
+        int longest = depth;
+        for(int letter = alphabet.nextSetBit(0); letter >= 0; letter = alphabet.nextSetBit(letter + 1)) {
+            if(!cursor.next((char) letter)) continue;
+            longest = Math.max(longest, longestWord(depth + 1));
+            cursor.back();
+        }
+        return longest;
+    }
+
+    /* ---------------------------------- Delta Class ---------------------------------- **/
+
+    /**
+     * The words added to and removed from a board by a change
+     */
+    public static final class Delta {
+
+        // instance vars
+        private final HashSet<String> added = new HashSet<>();
+        private final HashSet<String> removed = new HashSet<>();
+
+        private Delta() {
+            // nop
+        }
+
+        /**
+         * @return The words that are now on the board
+         */
+        public Set<String> added() {
+            return Collections.unmodifiableSet(added);
+        }
+
+        /**
+         * @return The words that are no longer on the board
+         */
+        public Set<String> removed() {
+            return Collections.unmodifiableSet(removed);
+        }
+
+        /**
+         * @return {@code True} if the words on the board did not change, else {@code False}
+         */
+        public boolean isEmpty() {
+            return added.isEmpty() && removed.isEmpty();
+        }
+
+    }
+
+    /* ---------------------------------- IntList Class ---------------------------------- **/
+
+    /**
+     * A growable list of {@code int}s
+     */
+    private static final class IntList {
+
+        // instance vars
+        private int[] values = new int[4];
+        private int size = 0;
+
+        private void add(final int value) {
+            if(size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = value;
+        }
+
+        /**
+         * Removes one occurrence of a value, moving the last value into its place
+         */
+        private void remove(final int value) {
+            for(int i = size - 1; i >= 0; i--) {
+                if(values[i] == value) {
+                    values[i] = values[--size];
+                    return;
+                }
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,107 @@
+package org.salerno.puzzles.games;
+
+import org.salerno.model.trees.WordSearch;
+
+/**
+ * Statistics of a lexicon that steer the Boggle solver, gathered once by walking every word spelled with the
+ * letters 'a' to 'z'.
+ *
+ * @author alex.salerno@me.com
+ * @since Oct-2026
+ */
+final class LexiconStats {
+
+    // constants
+    /** Number of letters from 'a' to 'z' */
+    private static final int LETTERS = 26;
+
+    // instance vars
+    /** Number of words of at least {@code Boggle.MIN_NUM_LETTERS} letters */
+    final int wordCount;
+    /** Total score of the words that start with each pair of letters, indexed by {@link #pair(char, char)} */
+    private final long[] pairScores;
+
+    /* ---------------------------------- Constructor Methods ---------------------------------- **/
+
+    private LexiconStats(final int wordCount, final long[] pairScores) {
+        this.wordCount = wordCount;
+        this.pairScores = pairScores;
+    }
+
+    /**
+     * @param lexicon A lexicon
+     * @return The statistics of the lexicon
+     */
+    static LexiconStats of(final WordSearch lexicon) {
+        final Walk walk = new Walk(lexicon.cursor());
+        walk.walk(0);
+        return new LexiconStats(walk.wordCount, walk.pairScores);
+    }
+
+    /* ---------------------------------- Stats Methods ---------------------------------- **/
+
+    /**
+     * @param first The first letter of a word, in any case
+     * @param second The second letter of a word, in any case
+     * @return The total score of the words that start with the two letters, 0 for letters outside 'a' to 'z'
+     */
+    long pairScore(final char first, final char second) {
+        final int pair = pair(Character.toLowerCase(first), Character.toLowerCase(second));
+        return pair < 0 ? 0 : pairScores[pair];
+    }
+
+    /* ---------------------------------- Private Methods ---------------------------------- **/
+
+    /**
+     * @param first A lowercase letter
+     * @param second A lowercase letter
+     * @return The index of the pair of letters, or -1 if either is outside 'a' to 'z'
+     */
+    private static int pair(final char first, final char second) {
+        final int firstIndex = first - 'a';
+        final int secondIndex = second - 'a';
+        if(firstIndex < 0 || firstIndex >= LETTERS || secondIndex < 0 || secondIndex >= LETTERS) return -1;
+        return firstIndex * LETTERS + secondIndex;
+    }
+
+    /* ---------------------------------- Walk Class ---------------------------------- **/
+
+    /**
+     * Walks every word of the lexicon with a cursor, counting as it goes
+     */
+    private static final class Walk {
+
+        // instance vars
+        private final WordSearch.Cursor cursor;
+        private final long[] pairScores = new long[LETTERS * LETTERS];
+        private int wordCount;
+        /** the first two letters walked, the rest of a word is not needed */
+        private char first;
+        private char second;
+
+        private Walk(final WordSearch.Cursor cursor) {
+            this.cursor = cursor;
+        }
+
+        /**
+         * A dfs recursive method that visits every word below the cursor, however long
+         *
+         * @param depth The number of letters walked
+         */
+        private void walk(final int depth) {
+            if(depth >= Boggle.MIN_NUM_LETTERS && cursor.isWord()) {
+                wordCount++;
+                pairScores[pair(first, second)] += Boggle.score(depth);
+            }
+            for(char letter = 'a'; letter <= 'z'; letter++) {
+                if(!cursor.next(letter)) continue;
+                if(depth == 0) first = letter;
+                else if(depth == 1) second = letter;
+                walk(depth + 1);
+                cursor.back();
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,245 @@
+package org.salerno.puzzles.games;
+
+import org.salerno.model.trees.WordSearch;
+
+import java.util.HashSet;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Finds the words on a Boggle board on a {@code ForkJoinPool}, splitting the search by starting cell.
+ * <br><br>
+ * The starting cells are split in half until each task has one cell. On large boards the search from a cell is
+ * split again by its second cell, since a few cells with common letters can hold most of the work. Each worker
+ * thread of the pool keeps its own {@link BoardSolver} and result set, so tasks share nothing while they run, and the
+ * result sets are merged once every task is done. A thread outside the pool that helps run the tasks, as the thread
+ * that calls {@link #solve} may, gets a solver for that board only, so no solver outlives the pool on a thread it does
+ * not own. The words found are the same as a sequential search.
+ * <br><br>
+ * Close the solver to stop its threads, once no board is being solved.
+ *
+ * @author alex.salerno@me.com
+ * @since Oct-2026
+ */
+final class ParallelBoardSolver implements AutoCloseable {
+
+    // constants
+    /** Boards with at least this many cells split the search from each cell by its second cell */
+    private static final int SPLIT_MIN_CELLS = 64;
+
+    // instance vars
+    private final ForkJoinPool pool;
+    private final WordSearch lexicon;
+    private final int minLetters;
+    private final SearchMetrics metrics;
+
+    /* ---------------------------------- Constructor Methods ---------------------------------- **/
+
+    /**
+     * @param lexicon The words to find
+     * @param minLetters Minimum number of letters that can constitute a word, at least 2
+     * @param parallelism The number of worker threads
+     * @param metrics Counts the search of every worker, or {@code null} to not count it
+     */
+    ParallelBoardSolver(final WordSearch lexicon, final int minLetters, final int parallelism,
+                        final SearchMetrics metrics) {
+        this.lexicon = lexicon;
+        this.minLetters = minLetters;
+        this.metrics = metrics;
+        // worker threads are daemons, so an unused pool does not keep the JVM alive
+        this.pool = new ForkJoinPool(parallelism, Worker::new, null, false);
+    }
+
+    /* ---------------------------------- Solver Methods ---------------------------------- **/
+
+    /**
+     * @param grid The size of the board
+     * @param boardLetters The letters of the board from the upper-left, left to right, one per cell
+     * @return The words that are found
+     */
+    HashSet<String> solve(final BoardSolver.Grid grid, final String boardLetters) {
+        final Job job = new Job(grid, boardLetters);
+        pool.invoke(new CellsTask(job, 0, grid.cellCount));
+
+        // merge the result set of each worker, then empty it so the worker does not hold on to the words
+        final HashSet<String> results = new HashSet<>();
+        for(HashSet<String> workerResults : job.results) {
+            results.addAll(workerResults);
+            workerResults.clear();
+        }
+        return results;
+    }
+
+    /**
+     * @return The number of worker threads
+     */
+    int parallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * Stops the threads once they are idle, a board solved after is rejected with a
+     * {@code RejectedExecutionException}
+     */
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    /**
+     * @return {@code True} once the solver is closed, else {@code False}
+     */
+    boolean isClosed() {
+        return pool.isShutdown();
+    }
+
+    /* ---------------------------------- Private Methods ---------------------------------- **/
+
+    /**
+     * @param job The board being solved
+     * @return The solver of the current thread, loaded with the board
+     */
+    private BoardSolver solverFor(final Job job) {
+        final Thread thread = Thread.currentThread();
+        if(!(thread instanceof Worker) || ((Worker) thread).getPool() != pool) {
+            // a thread outside the pool keeps its solver on the job, and lets go of it with the job
+            return job.helpers.computeIfAbsent(thread, helper -> prepare(newSolver(), job));
+        }
+        final Worker worker = (Worker) thread;
+        if(worker.solver == null) worker.solver = newSolver();
+        if(worker.job != job) {
+            worker.job = job;
+            prepare(worker.solver, job);
+        }
+        return worker.solver;
+    }
+
+    /**
+     * @return A solver for the current thread, with the recorder of the thread
+     */
+    private BoardSolver newSolver() {
+        final BoardSolver solver = new BoardSolver(lexicon, minLetters);
+        if(metrics != null) solver.record(metrics.recorder());
+        return solver;
+    }
+
+    /**
+     * @param solver A solver of the current thread
+     * @param job The board being solved
+     * @return The solver, loaded with the board and a result set of its own
+     */
+    private static BoardSolver prepare(final BoardSolver solver, final Job job) {
+        final HashSet<String> results = new HashSet<>();
+        job.results.add(results);
+        solver.prepare(job.grid, job.boardLetters, results::add);
+        return solver;
+    }
+
+    /* ---------------------------------- Job Class ---------------------------------- **/
+
+    /**
+     * A board being solved and the result set of every worker that has taken part
+     */
+    private static final class Job {
+
+        // instance vars
+        final BoardSolver.Grid grid;
+        final String boardLetters;
+        final Queue<HashSet<String>> results = new ConcurrentLinkedQueue<>();
+        /** the solvers of the threads outside the pool that help run the tasks */
+        final ConcurrentHashMap<Thread, BoardSolver> helpers = new ConcurrentHashMap<>();
+
+        private Job(final BoardSolver.Grid grid, final String boardLetters) {
+            this.grid = grid;
+            this.boardLetters = boardLetters;
+        }
+
+    }
+
+    /* ---------------------------------- Worker Class ---------------------------------- **/
+
+    /**
+     * A worker thread of the pool, with its solver and the board it was last loaded with. The solver is created on
+     * the thread the first time it is needed, so it gets the recorder of that thread.
+     */
+    private static final class Worker extends ForkJoinWorkerThread {
+
+        // instance vars
+        BoardSolver solver;
+        Job job;
+
+        private Worker(final ForkJoinPool pool) {
+            super(pool);
+        }
+
+    }
+
+    /* ---------------------------------- Task Classes ---------------------------------- **/
+
+    /**
+     * Searches from the starting cells {@code [from, to)}
+     */
+    @SuppressWarnings("serial")
+    private final class CellsTask extends RecursiveAction {
+
+        // instance vars
+        private final Job job;
+        private final int from;
+        private final int to;
+
+        private CellsTask(final Job job, final int from, final int to) {
+            this.job = job;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if(to - from > 1) {
+                final int middle = (from + to) >>> 1;
+                invokeAll(new CellsTask(job, from, middle), new CellsTask(job, middle, to));
+            } else if(job.grid.cellCount >= SPLIT_MIN_CELLS) {
+                // split the search from this cell by its second cell
+                final BoardSolver.Grid grid = job.grid;
+                final int neighborCount = grid.firstNeighbor[from + 1] - grid.firstNeighbor[from];
+                final SecondCellTask[] tasks = new SecondCellTask[neighborCount];
+                for(int i = 0; i < neighborCount; i++) {
+                    tasks[i] = new SecondCellTask(job, from, grid.neighbors[grid.firstNeighbor[from] + i]);
+                }
+                invokeAll(tasks);
+            } else {
+                solverFor(job).solveFrom(from);
+            }
+        }
+
+    }
+
+    /**
+     * Searches from a starting cell through one of its neighbors
+     */
+    @SuppressWarnings("serial")
+    private final class SecondCellTask extends RecursiveAction {
+
+        // instance vars
+        private final Job job;
+        private final int first;
+        private final int second;
+
+        private SecondCellTask(final Job job, final int first, final int second) {
+            this.job = job;
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        protected void compute() {
+            solverFor(job).solveFrom(first, second);
+        }
+
+    }
+
+}
@@ -0,0 +1,255 @@
+package org.salerno.puzzles.games;
+
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Counters of the Boggle search, to see where the time goes on a board that is slow to solve.
+ * <br><br>
+ * Every cell the search walks on to is counted at its depth, along with the number of neighbors it went on to and
+ * the number it tried whose letter does not continue a word in the lexicon, a trie prune. Nodes are grouped by depth
+ * and number of branches, so the histogram shows how quickly the search narrows. The time spent searching from each
+ * start cell is kept as well, summed over every board.
+ * <br><br>
+ * Each thread counts into its own {@link Recorder}, so the parallel solver shares nothing while it runs, and the
+ * recorders are only summed when a {@link Snapshot} is taken. A snapshot taken while a board is being solved on
+ * another thread may be a little behind. When a {@link Boggle} has no metrics the search does not record anything.
+ *
+ * @author alex.salerno@me.com
+ * @since Oct-2026
+ */
+public final class SearchMetrics {
+
+    // constants
+    /** Most branches from one cell, for the 8 neighbors of a cell and no branch */
+    static final int MAX_BRANCHES = 9;
+
+    // instance vars
+    private final ThreadLocal<Recorder> recorders;
+    private final Queue<Recorder> allRecorders = new ConcurrentLinkedQueue<>();
+
+    /* ---------------------------------- Constructor Methods ---------------------------------- **/
+
+    public SearchMetrics() {
+        this.recorders = ThreadLocal.withInitial(() -> {
+            final Recorder recorder = new Recorder();
+            allRecorders.add(recorder);
+            return recorder;
+        });
+    }
+
+    /* ---------------------------------- Public Methods ---------------------------------- **/
+
+    /**
+     * @return The counters of every thread so far, summed
+     */
+    public Snapshot snapshot() {
+        final Snapshot snapshot = new Snapshot();
+        for(Recorder recorder : allRecorders) {
+            snapshot.add(recorder);
+        }
+        return snapshot;
+    }
+
+    /* ---------------------------------- Package Methods ---------------------------------- **/
+
+    /**
+     * @return The recorder of the current thread, only to be used on this thread
+     */
+    Recorder recorder() {
+        return recorders.get();
+    }
+
+    /* ---------------------------------- Recorder Class ---------------------------------- **/
+
+    /**
+     * The counters of one thread, written without synchronization
+     */
+    static final class Recorder {
+
+        // instance vars
+        private long boards;
+        private long prunes;
+        /** Nodes at each depth by number of branches, indexed by {@code depth * MAX_BRANCHES + branches} */
+        private long[] branching = new long[16 * MAX_BRANCHES];
+        private int maxDepth;
+        private long[] startCellNanos = new long[16];
+
+        private Recorder() {
+            // nop
+        }
+
+        /**
+         * Counts a board solved
+         */
+        void board() {
+            boards++;
+        }
+
+        /**
+         * Counts a cell walked on to
+         *
+         * @param depth The number of letters walked, including this cell
+         * @param branches The number of neighbors the search went on to
+         * @param pruned The number of neighbors whose letter did not continue a word
+         */
+        void node(final int depth, final int branches, final int pruned) {
+            if((depth + 1) * MAX_BRANCHES > branching.length) {
+                branching = Arrays.copyOf(branching, Math.max(branching.length * 2, (depth + 1) * MAX_BRANCHES));
+            }
+            branching[depth * MAX_BRANCHES + branches]++;
+            prunes += pruned;
+            if(depth > maxDepth) maxDepth = depth;
+        }
+
+        /**
+         * Adds the time spent searching from a start cell
+         *
+         * @param cell The start cell
+         * @param nanos The time spent, in nanoseconds
+         */
+        void startCell(final int cell, final long nanos) {
+            if(cell >= startCellNanos.length) {
+                startCellNanos = Arrays.copyOf(startCellNanos, Math.max(startCellNanos.length * 2, cell + 1));
+            }
+            startCellNanos[cell] += nanos;
+        }
+
+    }
+
+    /* ---------------------------------- Snapshot Class ---------------------------------- **/
+
+    /**
+     * The counters at one point in time, which do not change as more boards are solved
+     */
+    public static final class Snapshot {
+
+        // instance vars
+        private long boards;
+        private long prunes;
+        private long[] branching = new long[0];
+        private int maxDepth;
+        private long[] startCellNanos = new long[0];
+
+        private Snapshot() {
+            // nop
+        }
+
+        /**
+         * @return The number of boards solved
+         */
+        public long boards() {
+            return boards;
+        }
+
+        /**
+         * @return The number of cells the search walked on to, over every board
+         */
+        public long cellsVisited() {
+            long total = 0;
+            for(long nodes : branching) {
+                total += nodes;
+            }
+            return total;
+        }
+
+        /**
+         * @return The number of neighbors tried whose letter did not continue a word in the lexicon
+         */
+        public long prunes() {
+            return prunes;
+        }
+
+        /**
+         * @return The most letters walked from a start cell
+         */
+        public int maxDepth() {
+            return maxDepth;
+        }
+
+        /**
+         * A search split by its second cell, as large boards are, counts from the second letter.
+         *
+         * @param depth The number of letters walked, starting with 1
+         * @return The number of cells walked on to at the depth, indexed by how many neighbors the search went on to
+         *         from them, from 0 to 8
+         */
+        public long[] branching(final int depth) {
+            final long[] result = new long[MAX_BRANCHES];
+            if(depth >= 0 && (depth + 1) * MAX_BRANCHES <= branching.length) {
+                System.arraycopy(branching, depth * MAX_BRANCHES, result, 0, MAX_BRANCHES);
+            }
+            return result;
+        }
+
+        /**
+         * @param depth The number of letters walked, starting with 1
+         * @return The mean number of neighbors the search went on to from the cells at the depth, 0 if there were none
+         */
+        public double meanBranching(final int depth) {
+            final long[] histogram = branching(depth);
+            long nodes = 0;
+            long branches = 0;
+            for(int i = 0; i < histogram.length; i++) {
+                nodes += histogram[i];
+                branches += i * histogram[i];
+            }
+            return nodes == 0 ? 0 : (double) branches / nodes;
+        }
+
+        /**
+         * @param cell A start cell, numbered from the upper-left, left to right
+         * @return The time spent searching from the cell over every board, in nanoseconds
+         */
+        public long startCellNanos(final int cell) {
+            return cell >= 0 && cell < startCellNanos.length ? startCellNanos[cell] : 0;
+        }
+
+        /**
+         * @return A number of start cells that includes every cell searched from, later cells have no time
+         */
+        public int startCells() {
+            return startCellNanos.length;
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder builder = new StringBuilder();
+            builder.append(String.format("%d boards, %d cells visited, %d prunes, max depth %d%n",
+                    boards, cellsVisited(), prunes, maxDepth));
+            for(int depth = 1; depth <= maxDepth; depth++) {
+                builder.append(String.format("depth %2d: mean branching %.2f %s%n",
+                        depth, meanBranching(depth), Arrays.toString(branching(depth))));
+            }
+            return builder.toString();
+        }
+
+        /**
+         * Adds the counters of a recorder
+         */
+        private void add(final Recorder recorder) {
+            // read each array once, the recorder may replace it with a larger one at any time
+            final long[] recorderBranching = recorder.branching;
+            final long[] recorderNanos = recorder.startCellNanos;
+            boards += recorder.boards;
+            prunes += recorder.prunes;
+            maxDepth = Math.max(maxDepth, recorder.maxDepth);
+            branching = addAll(branching, recorderBranching);
+            startCellNanos = addAll(startCellNanos, recorderNanos);
+        }
+
+        /**
+         * @return The element-wise sum of the arrays, as long as the longer one
+         */
+        private static long[] addAll(final long[] sums, final long[] values) {
+            final long[] result = Arrays.copyOf(sums, Math.max(sums.length, values.length));
+            for(int i = 0; i < values.length; i++) {
+                result[i] += values[i];
+            }
+            return result;
+        }
+
+    }
+
+}
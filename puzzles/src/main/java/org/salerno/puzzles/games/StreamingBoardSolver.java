@@ -0,0 +1,242 @@
+package org.salerno.puzzles.games;
+
+import org.salerno.model.trees.WordSearch;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Finds the distinct words on a Boggle board one at a time, for boards too large to gather every path's words.
+ * <br><br>
+ * The depth first search keeps its own stack of cells and neighbor positions instead of recursing, so it can stop
+ * after any word and carry on when the next one is asked for. Each word is returned once, the first time it is
+ * found. Words already found are marked on a trie of their own, built as words are found, so a word found again by
+ * another path is recognised without building its {@code String}, and the marks take no more room than the words
+ * of the lexicon that are on the board, however large the board is.
+ *
+ * @author alex.salerno@me.com
+ * @since Oct-2026
+ */
+final class StreamingBoardSolver implements Iterator<String> {
+
+    // constants
+    /** Marks a prefix whose mark trie node has not been looked up yet */
+    private static final int UNRESOLVED = -1;
+
+    // instance vars
+    private final WordSearch.Cursor cursor;
+    private final int minLetters;
+    private final BoardSolver.Grid grid;
+    private final char[] board;
+    private final long[] visited;
+    private final Marks marks = new Marks();
+    private char[] word = new char[16];
+    /** Cell of each letter walked */
+    private int[] cells = new int[16];
+    /** Next neighbor edge to try from each letter walked */
+    private int[] edges = new int[16];
+    /** Mark trie node of each prefix walked, where {@code markNodes[0]} is the empty prefix */
+    private int[] markNodes = new int[17];
+    private int depth = 0;
+    private int startCell = 0;
+    private String nextWord;
+
+    /* ---------------------------------- Constructor Methods ---------------------------------- **/
+
+    /**
+     * @param lexicon The words to find
+     * @param minLetters Minimum number of letters that can constitute a word
+     * @param grid The size of the board
+     * @param boardLetters The letters of the board from the upper-left, left to right, one per cell
+     */
+    StreamingBoardSolver(final WordSearch lexicon, final int minLetters, final BoardSolver.Grid grid, final String boardLetters) {
+        this.cursor = lexicon.cursor();
+        this.minLetters = minLetters;
+        this.grid = grid;
+        this.board = boardLetters.toCharArray();
+        this.visited = new long[(grid.cellCount + 63) >>> 6];
+        this.markNodes[0] = Marks.ROOT;
+    }
+
+    /* ---------------------------------- Iterator Methods ---------------------------------- **/
+
+    @Override
+    public boolean hasNext() {
+        if(nextWord == null) nextWord = findNextWord();
+        return nextWord != null;
+    }
+
+    @Override
+    public String next() {
+        if(!hasNext()) throw new NoSuchElementException();
+        final String result = nextWord;
+        nextWord = null;
+        return result;
+    }
+
+    /* ---------------------------------- Private Methods ---------------------------------- **/
+
+    /**
+     * Carries on the search until a word that has not been found before is found
+     *
+     * @return The word, or {@code null} if the board has no more words
+     */
+    private String findNextWord() {
+        while(true) {
+            if(depth == 0) {
+                // start from the next cell
+                if(startCell == grid.cellCount) return null;
+                final int cell = startCell++;
+                cursor.reset();
+                if(!cursor.next(board[cell])) continue;
+                push(cell);
+            } else {
+                final int cell = cells[depth - 1];
+                final int edge = edges[depth - 1];
+                // every move from this cell is done, go back
+                if(edge == grid.firstNeighbor[cell + 1]) {
+                    pop();
+                    continue;
+                }
+                edges[depth - 1] = edge + 1;
+                final int next = grid.neighbors[edge];
+                // is move already traversed
+                if((visited[next >>> 6] & (1L << next)) != 0) continue;
+                // if the next letter is not part of a word, trim this branch (performance!)
+                if(!cursor.next(board[next])) continue;
+                push(next);
+            }
+
+            // if it's a word that has not been found before, return it
+            if(depth >= minLetters && cursor.isWord() && marks.mark(resolve(depth))) {
+                return new String(word, 0, depth);
+            }
+        }
+    }
+
+    /**
+     * Walks on to a cell, the cursor must already be on it
+     *
+     * @param cell The cell
+     */
+    private void push(final int cell) {
+        if(depth == cells.length) {
+            cells = Arrays.copyOf(cells, depth * 2);
+            edges = Arrays.copyOf(edges, depth * 2);
+            word = Arrays.copyOf(word, depth * 2);
+            markNodes = Arrays.copyOf(markNodes, depth * 2 + 1);
+        }
+        cells[depth] = cell;
+        edges[depth] = grid.firstNeighbor[cell];
+        word[depth] = board[cell];
+        visited[cell >>> 6] |= 1L << cell;
+        depth++;
+        markNodes[depth] = UNRESOLVED;
+    }
+
+    /**
+     * Walks back off the last cell, along with the cursor
+     */
+    private void pop() {
+        depth--;
+        final int cell = cells[depth];
+        visited[cell >>> 6] &= ~(1L << cell);
+        cursor.back();
+    }
+
+    /**
+     * Looks up the mark trie node of a prefix walked, adding it and any missing parent. Prefixes that never lead to
+     * a word are never looked up.
+     *
+     * @param length The length of the prefix
+     * @return The mark trie node of the prefix
+     */
+    private int resolve(final int length) {
+        if(markNodes[length] == UNRESOLVED) {
+            markNodes[length] = marks.child(resolve(length - 1), word[length - 1]);
+        }
+        return markNodes[length];
+    }
+
+    /* ---------------------------------- Marks Class ---------------------------------- **/
+
+    /**
+     * A trie of the words found, each node an {@code int}. The children of every node are in one open addressing
+     * table keyed by parent node and character, and a bit set marks the nodes that end a word that was found.
+     */
+    private static final class Marks {
+
+        // constants
+        /** Node of the empty prefix */
+        private static final int ROOT = 0;
+
+        // instance vars
+        private long[] keys = new long[64];
+        private int[] children = new int[64];
+        private long[] marked = new long[1];
+        private int nodeCount = 1;
+
+        /**
+         * @param node A node
+         * @param character The next character
+         * @return The child of the node for the character, added if there is none
+         */
+        private int child(final int node, final char character) {
+            // keys are stored plus one, so zero is an empty slot
+            final long key = (((long) node << 16) | character) + 1;
+            int slot = hash(key) & (keys.length - 1);
+            while(keys[slot] != 0) {
+                if(keys[slot] == key) return children[slot];
+                slot = (slot + 1) & (keys.length - 1);
+            }
+
+            final int child = nodeCount++;
+            keys[slot] = key;
+            children[slot] = child;
+            // keep the table at most half full
+            if(nodeCount * 2 > keys.length) grow();
+            return child;
+        }
+
+        /**
+         * @param node A node that ends a word
+         * @return {@code True} if the node was not marked before, else {@code False}
+         */
+        private boolean mark(final int node) {
+            if(node >>> 6 >= marked.length) marked = Arrays.copyOf(marked, Math.max(marked.length * 2, (node >>> 6) + 1));
+            final long bit = 1L << node;
+            if((marked[node >>> 6] & bit) != 0) return false;
+            marked[node >>> 6] |= bit;
+            return true;
+        }
+
+        /**
+         * Doubles the table, placing every key again
+         */
+        private void grow() {
+            final long[] oldKeys = keys;
+            final int[] oldChildren = children;
+            keys = new long[oldKeys.length * 2];
+            children = new int[oldKeys.length * 2];
+            for(int i = 0; i < oldKeys.length; i++) {
+                if(oldKeys[i] == 0) continue;
+                int slot = hash(oldKeys[i]) & (keys.length - 1);
+                while(keys[slot] != 0) slot = (slot + 1) & (keys.length - 1);
+                keys[slot] = oldKeys[i];
+                children[slot] = oldChildren[i];
+            }
+        }
+
+        /**
+         * @param key A key
+         * @return The key with its bits mixed, so nearby keys spread out over the table
+         */
+        private static int hash(final long key) {
+            final long mixed = key * 0x9E3779B97F4A7C15L;
+            return (int) (mixed ^ (mixed >>> 32));
+        }
+
+    }
+
+}
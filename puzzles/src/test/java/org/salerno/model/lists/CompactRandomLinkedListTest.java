@@ -0,0 +1,191 @@
+package org.salerno.model.lists;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompactRandomLinkedListTest {
+
+    private static final String[] TAGS = {"Mercury", "Venus", "Earth", "Mars", "Jupiter", "Saturn", "Uranus", "Neptune", "Pluto"};
+    private static final String PLANET_ONE = "Hoth";
+
+    @Test
+    public void shouldCreateLinkedList() {
+        final Set<String> tags = new HashSet<>(Arrays.asList(TAGS));
+        CompactRandomLinkedList list = CompactRandomLinkedList.asList(TAGS);
+        // verify list is in order
+        for(String tag: TAGS) {
+            assertNotNull(list);
+            assertSame(tag, list.peek());
+            assertTrue(tags.contains(list.getReference().peek()));
+            list = list.getNext();
+        }
+        // verify list is now empty
+        assertSame("", list.peek());
+        assertNull(list.getNext());
+        assertNull(list.getReference());
+    }
+
+    @Test
+    public void shouldPushAndPop() {
+        final CompactRandomLinkedList list = CompactRandomLinkedList.asList(TAGS);
+        assertSame(TAGS[0], list.pop());
+        assertEquals(TAGS.length - 1, list.size());
+        list.push(PLANET_ONE);
+        assertEquals(TAGS.length, list.size());
+        // first in, first out
+        for(int i = 1; i < TAGS.length; i++) {
+            assertSame(TAGS[i], list.pop());
+        }
+        assertSame(PLANET_ONE, list.peek());
+        assertSame(PLANET_ONE, list.pop());
+        assertSame("", list.pop());
+        assertEquals(0, list.size());
+        // emptied
+        list.push(PLANET_ONE);
+        assertEquals(1, list.size());
+        assertSame(PLANET_ONE, list.getReference().peek());
+    }
+
+    @Test
+    public void shouldIterateInOrder() {
+        final CompactRandomLinkedList list = CompactRandomLinkedList.asList(TAGS);
+        final ArrayList<String> tags = new ArrayList<>();
+        for(String tag : list) {
+            tags.add(tag);
+        }
+        assertEquals(Arrays.asList(TAGS), tags);
+        assertEquals(TAGS.length - 1, list.getNext().size());
+        // an iterator carries on from the first node kept once the arrays fill under it
+        final Iterator<String> iterator = list.iterator();
+        assertSame(TAGS[0], iterator.next());
+        for(int i = 0; i < 100; i++) {
+            list.pop();
+            list.push(PLANET_ONE);
+        }
+        int count = 0;
+        while(iterator.hasNext()) {
+            assertSame(PLANET_ONE, iterator.next());
+            count++;
+        }
+        assertEquals(TAGS.length, count);
+    }
+
+    @Test
+    public void shouldShareNodesWithNext() {
+        final CompactRandomLinkedList list = CompactRandomLinkedList.asList(TAGS);
+        final CompactRandomLinkedList next = list.getNext();
+        // a tag pushed on the list is in the list part way in, like RandomLinkedList
+        list.push(PLANET_ONE);
+        assertEquals(TAGS.length, next.size());
+        // the list part way in holds on to no nodes, once the arrays fill it carries on from the first node kept
+        for(int i = 0; i < 1000; i++) {
+            list.pop();
+            list.push(PLANET_ONE);
+        }
+        assertTrue(list.sizeInBytes() < 512, String.valueOf(list.sizeInBytes()));
+        assertEquals(TAGS.length + 1, list.size());
+        assertTrue(next.size() >= list.size());
+        assertSame(PLANET_ONE, next.peek());
+        // a list part way in that pushes keeps the nodes of the list it came from
+        final CompactRandomLinkedList ahead = list.getNext().getNext();
+        for(int i = 0; i < 1000; i++) {
+            ahead.pop();
+            ahead.push(PLANET_ONE);
+        }
+        assertEquals(TAGS.length + 1001, list.size());
+        assertEquals(TAGS.length - 1, ahead.size());
+    }
+
+    @Test
+    public void shouldKeepTagsOfDroppedReferences() {
+        final CompactRandomLinkedList list = CompactRandomLinkedList.asList(TAGS);
+        // every node left references one of the planets or Hoth, some of them popped and then dropped
+        final Set<String> tags = new HashSet<>(Arrays.asList(TAGS));
+        tags.add(PLANET_ONE);
+        for(int i = 0; i < 1000; i++) {
+            list.pop();
+            list.push(PLANET_ONE);
+        }
+        // with no other list in use the arrays stay small
+        assertTrue(list.sizeInBytes() < 512);
+        assertEquals(TAGS.length, list.size());
+        for(int i = 0; i < TAGS.length; i++) {
+            assertTrue(tags.contains(list.getReference().peek()));
+            list.pop();
+        }
+    }
+
+    @Test
+    public void shouldDropTagsNoNodeUses() {
+        final CompactRandomLinkedList list = CompactRandomLinkedList.asList(TAGS);
+        // every tag pushed is new, the table of tags keeps only those of the nodes left
+        for(int i = 0; i < 100000; i++) {
+            list.pop();
+            list.push(PLANET_ONE + i);
+        }
+        assertTrue(list.sizeInBytes() < 1024, String.valueOf(list.sizeInBytes()));
+        assertEquals(TAGS.length, list.size());
+        for(int i = 100000 - TAGS.length; i < 100000; i++) {
+            assertTrue(list.getReference().peek().startsWith(PLANET_ONE));
+            assertEquals(PLANET_ONE + i, list.pop());
+        }
+    }
+
+    @Test
+    public void shouldLayOutSameListFromSeed() {
+        final CompactRandomLinkedList first = CompactRandomLinkedList.asList(42, TAGS);
+        final CompactRandomLinkedList second = CompactRandomLinkedList.asList(42, TAGS);
+        first.push(PLANET_ONE);
+        second.push(PLANET_ONE);
+        assertEquals(first.toString(), second.toString());
+        // a list part way in is seeded from its list
+        assertEquals(first.getNext().getReference().toString(), second.getNext().getReference().toString());
+    }
+
+    @Test
+    public void shouldBuildMillionNodeList() {
+        final String[] tags = new String[1000000];
+        for(int i = 0; i < tags.length; i++) {
+            tags[i] = String.valueOf(i % 1000);
+        }
+        final CompactRandomLinkedList list = CompactRandomLinkedList.asList(tags);
+        for(int i = 0; i < 1000; i++) {
+            list.pop();
+            list.push(PLANET_ONE);
+        }
+        assertEquals(tags.length, list.size());
+        // 8 bytes a node, the arrays grew once, and about 50 bytes for each of the distinct tags
+        assertTrue(list.sizeInBytes() <= 16L * tags.length + 65536, String.valueOf(list.sizeInBytes()));
+        int count = 0;
+        for(String ignored : list) {
+            count++;
+        }
+        assertEquals(tags.length, count);
+    }
+
+    @Test
+    public void shouldHandleBadData() {
+        // null
+        CompactRandomLinkedList list = CompactRandomLinkedList.asList((String) null);
+        assertSame("", list.peek());
+        assertEquals("[]", list.toString());
+        list.push(PLANET_ONE);
+        list.push(null);
+        assertSame(PLANET_ONE, list.pop());
+        // empty array
+        list = CompactRandomLinkedList.asList(new String[3]);
+        assertSame("", list.peek());
+        // duplicate tags are stored once
+        list = CompactRandomLinkedList.asList(PLANET_ONE, new String(PLANET_ONE), PLANET_ONE);
+        assertEquals(3, list.size());
+        assertSame(PLANET_ONE, list.getNext().peek());
+    }
+
+}
@@ -0,0 +1,151 @@
+package org.salerno.model.lists;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrentRandomLinkedListTest {
+
+    private static final String[] TAGS = {"Mercury", "Venus", "Earth", "Mars", "Jupiter", "Saturn", "Uranus", "Neptune", "Pluto"};
+    private static final String PLANET_ONE = "Hoth";
+
+    @Test
+    public void shouldPushAndPop() {
+        final ConcurrentRandomLinkedList list = ConcurrentRandomLinkedList.asList(TAGS);
+        assertEquals(TAGS.length, list.size());
+        assertSame(TAGS[0], list.peek());
+        list.push(PLANET_ONE);
+        assertEquals(TAGS.length + 1, list.size());
+        // first in, first out
+        for(String tag : TAGS) {
+            assertSame(tag, list.pop());
+        }
+        assertSame(PLANET_ONE, list.pop());
+        assertEquals(0, list.size());
+        assertSame("", list.pop());
+        assertSame("", list.peek());
+        assertSame("", list.peekReference());
+    }
+
+    @Test
+    public void shouldReferenceNodesInList() {
+        final ConcurrentRandomLinkedList list = ConcurrentRandomLinkedList.asList(TAGS);
+        final Set<String> tags = new HashSet<>(Arrays.asList(TAGS));
+        for(int i = 0; i < TAGS.length; i++) {
+            assertTrue(tags.contains(list.peekReference()));
+            list.pop();
+        }
+        // a node only references nodes in the queue when it is pushed
+        for(int i = 0; i < 100; i++) {
+            list.push(PLANET_ONE);
+        }
+        for(int i = 0; i < 100; i++) {
+            assertSame(PLANET_ONE, list.peekReference());
+            list.pop();
+        }
+    }
+
+    @Test
+    public void shouldKeepReferencesToPoppedNodes() {
+        final ConcurrentRandomLinkedList list = ConcurrentRandomLinkedList.asList(TAGS);
+        for(int i = 0; i < TAGS.length; i++) {
+            list.push(PLANET_ONE);
+        }
+        for(int i = 0; i < TAGS.length; i++) {
+            list.pop();
+        }
+        // the remaining nodes may reference popped nodes, which keep their tags
+        final Set<String> tags = new HashSet<>(Arrays.asList(TAGS));
+        tags.add(PLANET_ONE);
+        while(list.size() > 0) {
+            assertTrue(tags.contains(list.peekReference()));
+            list.pop();
+        }
+    }
+
+    @Test
+    public void shouldIterateInOrder() {
+        final ConcurrentRandomLinkedList list = ConcurrentRandomLinkedList.asList(TAGS);
+        final ArrayList<String> tags = new ArrayList<>();
+        for(String tag : list) {
+            tags.add(tag);
+        }
+        assertEquals(Arrays.asList(TAGS), tags);
+        // an iterator that reaches a popped node carries on from the head
+        final Iterator<String> iterator = list.iterator();
+        assertSame(TAGS[0], iterator.next());
+        list.pop();
+        list.pop();
+        list.pop();
+        assertSame(TAGS[1], iterator.next());
+        assertSame(TAGS[3], iterator.next());
+        assertEquals("[" + String.join(", ", Arrays.copyOfRange(TAGS, 3, TAGS.length)) + "]", list.toString());
+    }
+
+    @Test
+    public void shouldPushAndPopConcurrently() throws InterruptedException {
+        final ConcurrentRandomLinkedList list = new ConcurrentRandomLinkedList();
+        final int producers = 4;
+        final int consumers = 4;
+        final int perProducer = 20000;
+        final Set<String> popped = ConcurrentHashMap.newKeySet();
+        final AtomicInteger duplicates = new AtomicInteger();
+        final AtomicInteger remaining = new AtomicInteger(producers * perProducer);
+        final Thread[] threads = new Thread[producers + consumers];
+        for(int i = 0; i < producers; i++) {
+            final int producer = i;
+            threads[i] = new Thread(() -> {
+                for(int j = 0; j < perProducer; j++) {
+                    list.push(producer + ":" + j);
+                }
+            });
+        }
+        for(int i = producers; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                while(remaining.get() > 0) {
+                    final String tag = list.pop();
+                    if(tag.isEmpty()) continue;
+                    if(!popped.add(tag)) duplicates.incrementAndGet();
+                    remaining.decrementAndGet();
+                    // the reference of the head is always readable
+                    assertNotNull(list.peekReference());
+                }
+            });
+        }
+        for(Thread thread : threads) {
+            thread.start();
+        }
+        for(Thread thread : threads) {
+            thread.join();
+        }
+        // every tag is popped exactly once
+        assertEquals(0, duplicates.get());
+        assertEquals(producers * perProducer, popped.size());
+        assertEquals(0, list.size());
+        assertSame("", list.peek());
+    }
+
+    @Test
+    public void shouldHandleBadData() {
+        ConcurrentRandomLinkedList list = ConcurrentRandomLinkedList.asList((String[]) null);
+        assertSame("", list.peek());
+        list = ConcurrentRandomLinkedList.asList(new String[3]);
+        assertEquals(0, list.size());
+        list.push(null);
+        assertEquals(0, list.size());
+        assertEquals("[]", list.toString());
+        // duplicate tags
+        list = ConcurrentRandomLinkedList.asList(PLANET_ONE, PLANET_ONE, PLANET_ONE);
+        assertSame(PLANET_ONE, list.peekReference());
+        assertEquals(3, list.size());
+    }
+
+}
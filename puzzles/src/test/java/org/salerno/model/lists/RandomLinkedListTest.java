@@ -3,7 +3,9 @@ package org.salerno.model.lists;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -44,6 +46,126 @@ public class RandomLinkedListTest {
         assertSame("", listTwo.pop());
     }
 
+    @Test
+    public void shouldTrackSize() {
+        final RandomLinkedList list = RandomLinkedList.asList(TAGS);
+        assertEquals(TAGS.length, list.size());
+        list.push(PLANET_ONE);
+        list.pop();
+        list.pop();
+        assertEquals(TAGS.length - 1, list.size());
+        assertEquals(TAGS.length - 1, RandomLinkedList.duplicateList(list).size());
+        // a list part way into another is counted once, then kept up to date
+        final RandomLinkedList next = list.getNext();
+        assertEquals(TAGS.length - 2, next.size());
+        next.push(PLANET_ONE);
+        assertEquals(TAGS.length - 1, next.size());
+        assertSame(PLANET_ONE, next.tail.getTag());
+        // emptied
+        final RandomLinkedList other = RandomLinkedList.asList(TAGS);
+        while(other.size() > 0) other.pop();
+        assertSame("", other.peek());
+        other.push(PLANET_ONE);
+        assertEquals(1, other.size());
+        assertSame(other.head, other.tail);
+    }
+
+    @Test
+    public void shouldSeePushesOnSharedNodes() {
+        final RandomLinkedList list = RandomLinkedList.asList("a", "b", "c");
+        final RandomLinkedList next = list.getNext();
+        assertEquals(2, next.size());
+        // pushed on the list after the list part way in was made
+        list.push("d");
+        assertEquals(3, next.size());
+        assertEquals("bcd", String.join("", next));
+        // pushed on the list part way in, after the node it has not seen pushed
+        next.push("e");
+        assertEquals("abcde", String.join("", list));
+        assertEquals(5, list.size());
+        assertEquals(4, next.size());
+        list.push("f");
+        assertEquals("abcdef", String.join("", list));
+        assertEquals(6, list.size());
+        assertEquals("bcdef", String.join("", next));
+        assertEquals(5, next.size());
+        // a copy has every node
+        assertEquals(6, RandomLinkedList.duplicateList(list).size());
+    }
+
+    @Test
+    public void shouldPopPushesOnSharedNodes() {
+        final RandomLinkedList list = RandomLinkedList.asList("a", "b");
+        // pushed on the list part way in, then popped from the list it came from
+        list.getNext().push("c");
+        assertSame("a", list.pop());
+        assertSame("b", list.pop());
+        assertSame("c", list.pop());
+        assertSame("", list.pop());
+        assertEquals(0, list.size());
+        list.push("d");
+        assertEquals(1, list.size());
+        assertSame("d", list.getReference().peek());
+    }
+
+    @Test
+    public void shouldLayOutSameListFromSeed() {
+        final RandomLinkedList first = RandomLinkedList.asList(42, TAGS);
+        final RandomLinkedList second = RandomLinkedList.asList(42, TAGS);
+        first.push(PLANET_ONE);
+        second.push(PLANET_ONE);
+        assertEquals(references(first), references(second));
+        // a list part way in, or a copy, is seeded from its list
+        assertEquals(references(first.getNext()), references(second.getNext()));
+        assertEquals(references(RandomLinkedList.duplicateList(first)), references(RandomLinkedList.duplicateList(second)));
+        // a different seed gives a different layout, almost always
+        assertNotEquals(references(RandomLinkedList.asList(42, TAGS)), references(RandomLinkedList.asList(7, TAGS)));
+    }
+
+    @Test
+    public void shouldBuildMillionNodeList() {
+        final String[] tags = new String[1000000];
+        for(int i = 0; i < tags.length; i++) {
+            tags[i] = String.valueOf(i);
+        }
+        final RandomLinkedList list = RandomLinkedList.asList(tags);
+        for(int i = 0; i < 1000; i++) {
+            list.pop();
+            list.push(PLANET_ONE);
+        }
+        assertEquals(tags.length, list.size());
+        for(RandomLinkedList.Node node : list.head) {
+            assertNotNull(node.getReference());
+        }
+    }
+
+    @Test
+    public void shouldPushConcurrently() throws InterruptedException {
+        final RandomLinkedList shared = RandomLinkedList.asList(TAGS);
+        final Thread[] threads = new Thread[4];
+        for(int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                // each thread also works on a list of its own
+                final RandomLinkedList own = RandomLinkedList.asList(TAGS);
+                for(int j = 0; j < 1000; j++) {
+                    shared.push(PLANET_ONE);
+                    own.push(PLANET_ONE);
+                }
+                assertEquals(TAGS.length + 1000, own.size());
+            });
+            threads[i].start();
+        }
+        for(Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(TAGS.length + 4000, shared.size());
+        int count = 0;
+        for(String ignored : shared) {
+            count++;
+        }
+        assertEquals(TAGS.length + 4000, count);
+    }
+
     @Test
     public void shouldDuplicateList() {
         final RandomLinkedList list = RandomLinkedList.asList(TAGS);
@@ -84,6 +206,85 @@ public class RandomLinkedListTest {
         }
     }
 
+    @Test
+    public void shouldDuplicateRepeatedTags() {
+        final RandomLinkedList list = RandomLinkedList.asList(PLANET_ONE, PLANET_ONE, PLANET_ONE, PLANET_ONE, PLANET_ONE);
+        list.push(PLANET_ONE);
+        final RandomLinkedList copy = RandomLinkedList.duplicateList(list);
+        // each copy references the copy of the same node, not just a node with the same tag
+        assertEquals(referenceIndexes(list), referenceIndexes(copy));
+        assertEquals(list.size(), copy.size());
+        // the original is unwoven
+        assertEquals(6, list.size());
+        int count = 0;
+        for(RandomLinkedList.Node node : list.head) {
+            count++;
+            assertNotNull(node.getReference());
+        }
+        assertEquals(6, count);
+    }
+
+    @Test
+    public void shouldDuplicateWholeList() {
+        // longer than a recursive copy could go
+        final String[] tags = new String[100000];
+        for(int i = 0; i < tags.length; i++) {
+            tags[i] = String.valueOf(i % 10);
+        }
+        final RandomLinkedList list = RandomLinkedList.asList(tags);
+        final RandomLinkedList copy = RandomLinkedList.duplicateList(list);
+        assertEquals(tags.length, copy.size());
+        assertEquals(referenceIndexes(list), referenceIndexes(copy));
+        copy.push(PLANET_ONE);
+        assertEquals(tags.length, list.size());
+        assertNull(list.tail.getNext());
+    }
+
+    @Test
+    public void shouldDuplicatePartOfList() {
+        final RandomLinkedList list = RandomLinkedList.asList(TAGS);
+        final RandomLinkedList next = list.getNext();
+        final RandomLinkedList copy = RandomLinkedList.duplicateList(next);
+        assertEquals(TAGS.length - 1, copy.size());
+        // references before the start of the part have no copy
+        final ArrayList<Integer> expected = referenceIndexes(next);
+        expected.replaceAll(index -> index == -1 ? -2 : index);
+        assertEquals(expected, referenceIndexes(copy));
+        // the list it is part of is left whole
+        assertEquals(TAGS.length, list.size());
+        int count = 0;
+        for(String ignored : list) {
+            count++;
+        }
+        assertEquals(TAGS.length, count);
+    }
+
+    @Test
+    public void shouldDuplicateConcurrently() throws InterruptedException {
+        final RandomLinkedList[] lists = new RandomLinkedList[4];
+        final Thread[] threads = new Thread[lists.length];
+        final AtomicInteger failures = new AtomicInteger();
+        for(int i = 0; i < threads.length; i++) {
+            final RandomLinkedList list = RandomLinkedList.asList(TAGS);
+            for(int j = 0; j < 1000; j++) {
+                list.push(PLANET_ONE);
+            }
+            lists[i] = list;
+            final ArrayList<Integer> expected = referenceIndexes(list);
+            threads[i] = new Thread(() -> {
+                for(int j = 0; j < 100; j++) {
+                    final RandomLinkedList copy = RandomLinkedList.duplicateList(list);
+                    if(!expected.equals(referenceIndexes(copy))) failures.incrementAndGet();
+                }
+            });
+            threads[i].start();
+        }
+        for(Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(0, failures.get());
+    }
+
     @Test
     public void shouldHandleBadData() {
         // null
@@ -111,6 +312,29 @@ public class RandomLinkedListTest {
 
     /* ---------------------------------- Private Methods ---------------------------------- **/
 
+    private static ArrayList<String> references(final RandomLinkedList list) {
+        final ArrayList<String> result = new ArrayList<>();
+        for(RandomLinkedList.Node node : list.head) {
+            result.add(node.getTag() + "->" + node.getReference().getTag());
+        }
+        return result;
+    }
+
+    /**
+     * @return The position in the list of the node each node references, -1 if it is not in the list and -2 if none
+     */
+    private static ArrayList<Integer> referenceIndexes(final RandomLinkedList list) {
+        final IdentityHashMap<RandomLinkedList.Node, Integer> positions = new IdentityHashMap<>();
+        for(RandomLinkedList.Node node : list.head) {
+            positions.put(node, positions.size());
+        }
+        final ArrayList<Integer> result = new ArrayList<>();
+        for(RandomLinkedList.Node node : list.head) {
+            result.add(node.getReference() == null ? -2 : positions.getOrDefault(node.getReference(), -1));
+        }
+        return result;
+    }
+
     private static void concurrentTest() {
         // run 500 times with no conflicts
         try {
@@ -0,0 +1,122 @@
+package org.salerno.model.trees;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.HashSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompactWordSearchTreeTest {
+
+    private static final HashSet<String> lexicon = getLexiconFromFile();
+    private static final CompactWordSearchTree tree = CompactWordSearchTree.asTree(lexicon);
+
+    @Test
+    public void shouldFindWord() {
+        assertTrue(tree.isWord("Empire"));
+        assertTrue(tree.isWord("Strike"));
+        assertTrue(tree.isWord("Back"));
+        // big word
+        assertTrue(tree.isWord("beautification"));
+        // not a word
+        assertFalse(tree.isWord("asdf"));
+        // prefix only
+        assertFalse(tree.isWord("beautificati"));
+    }
+
+    @Test
+    public void shouldFindPartialWord() {
+        assertTrue(tree.isPartialWord("Emp"));
+        assertTrue(tree.isPartialWord("Strik"));
+        assertTrue(tree.isPartialWord("Back"));
+        // big word
+        assertTrue(tree.isPartialWord("beautificati"));
+        // not a word
+        assertFalse(tree.isPartialWord("asdf"));
+    }
+
+    @Test
+    public void shouldMatchWordSearchTree() {
+        final WordSearchTree expected = WordSearchTree.asTree(lexicon);
+        for(String word : lexicon) {
+            assertTrue(tree.isWord(word), word);
+            for(int i = 1; i < word.length(); i++) {
+                final String prefix = word.substring(0, i);
+                assertEquals(expected.isWord(prefix), tree.isWord(prefix), prefix);
+                assertTrue(tree.isPartialWord(prefix), prefix);
+            }
+        }
+    }
+
+    @Test
+    public void shouldBeSmallerThanWordSearchTree() {
+        // a trie over 48k words has a few hundred thousand nodes, each about 10 bytes
+        assertTrue(tree.nodeCount() > lexicon.size());
+        assertTrue(tree.sizeInBytes() < 12L * tree.nodeCount());
+    }
+
+    @Test
+    public void shouldWalkCursor() {
+        final WordSearch.Cursor cursor = tree.cursor();
+        assertFalse(cursor.isPartialWord());
+        assertFalse(cursor.isWord());
+        for(char character : "Bac".toCharArray()) assertTrue(cursor.next(character));
+        assertTrue(cursor.isPartialWord());
+        assertFalse(cursor.isWord());
+        assertTrue(cursor.next('K'));
+        assertTrue(cursor.isWord());
+        // no word continues with 'q', the cursor stays on 'back'
+        assertFalse(cursor.next('q'));
+        assertSame(4, cursor.depth());
+        assertTrue(cursor.isWord());
+        // backtrack and take another branch
+        cursor.back();
+        cursor.back();
+        assertTrue(cursor.next('s'));
+        assertTrue(cursor.next('e'));
+        assertTrue(cursor.isWord());
+        assertSame(4, cursor.depth());
+        // deeper than the initial stack
+        cursor.reset();
+        assertSame(0, cursor.depth());
+        assertThrows(IllegalStateException.class, cursor::back);
+        for(char character : "beautification".toCharArray()) assertTrue(cursor.next(character));
+        assertTrue(cursor.isWord());
+    }
+
+    @Test
+    public void shouldHandleBadData() {
+        assertNull(CompactWordSearchTree.asTree(null));
+        assertNull(CompactWordSearchTree.of(null));
+        assertFalse(tree.isWord(""));
+        assertFalse(tree.isWord(null));
+        assertFalse(tree.isPartialWord(""));
+        assertFalse(tree.isPartialWord(null));
+        // empty lexicon
+        final CompactWordSearchTree empty = CompactWordSearchTree.asTree(new HashSet<>());
+        assertSame(1, empty.nodeCount());
+        assertFalse(empty.isPartialWord("a"));
+    }
+
+    /* ---------------------------------- Private Methods ---------------------------------- **/
+
+    private static HashSet<String> getLexiconFromFile() {
+        final String resourcePath = "AmericanEnglishLexicon.txt";
+        final HashSet<String> result = new HashSet<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(CompactWordSearchTreeTest.class.getClassLoader().getResourceAsStream(resourcePath)))) {
+            String line = reader.readLine();
+            while(line != null) {
+                result.add(line);
+                line = reader.readLine();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load lexicon from resource: " + resourcePath, e);
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,130 @@
+package org.salerno.model.trees;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MappedWordSearchTreeTest {
+
+    private static final HashSet<String> lexicon = getLexiconFromFile();
+    private static final WordSearchTree tree = WordSearchTree.asTree(lexicon);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void shouldSaveAndOpenSnapshot() throws IOException {
+        final Path path = directory.resolve("lexicon.wst");
+        tree.save(path);
+        final MappedWordSearchTree mapped = MappedWordSearchTree.open(path);
+        assertEquals(CompactWordSearchTree.of(tree).nodeCount(), mapped.nodeCount());
+        for(String word : lexicon) {
+            assertTrue(mapped.isWord(word), word);
+            assertTrue(mapped.isPartialWord(word.substring(0, 1 + word.length() / 2)), word);
+        }
+        assertTrue(mapped.isWord("Empire"));
+        assertTrue(mapped.isPartialWord("beautificati"));
+        assertFalse(mapped.isWord("beautificati"));
+        assertFalse(mapped.isWord("asdf"));
+        assertFalse(mapped.isPartialWord("asdf"));
+        // cursor
+        final WordSearch.Cursor cursor = mapped.cursor();
+        for(char character : "Empire".toCharArray()) assertTrue(cursor.next(character));
+        assertTrue(cursor.isWord());
+        cursor.back();
+        assertFalse(cursor.isWord());
+        assertFalse(cursor.next('x'));
+    }
+
+    @Test
+    public void shouldSaveGraphSnapshot() throws IOException {
+        final Path path = directory.resolve("graph.wst");
+        WordSearchTree.asGraph(List.of("bake", "baked", "bike", "biked", "biker")).save(path);
+        final MappedWordSearchTree mapped = MappedWordSearchTree.open(path);
+        assertTrue(mapped.isWord("biked"));
+        assertTrue(mapped.isWord("biker"));
+        assertFalse(mapped.isWord("baker"));
+        assertFalse(mapped.isWord("bak"));
+    }
+
+    @Test
+    public void shouldKeepReadingSnapshotSavedOver() throws IOException {
+        final Path path = directory.resolve("replaced.wst");
+        WordSearchTree.asTree(new HashSet<>(List.of("bake", "baked"))).save(path);
+        final MappedWordSearchTree old = MappedWordSearchTree.open(path);
+        // a smaller snapshot saved over the mapped one, the old tree still reads its own snapshot
+        WordSearchTree.asTree(new HashSet<>(List.of("bike"))).save(path);
+        assertTrue(old.isWord("baked"));
+        assertFalse(old.isWord("bike"));
+        final MappedWordSearchTree replaced = MappedWordSearchTree.open(path);
+        assertTrue(replaced.isWord("bike"));
+        assertFalse(replaced.isWord("baked"));
+        // nothing is left behind next to the snapshot
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(List.of(path), files.toList());
+        }
+    }
+
+    @Test
+    public void shouldRejectBadSnapshot() throws IOException {
+        // not a snapshot
+        final Path text = directory.resolve("lexicon.txt");
+        Files.writeString(text, "empire\nstrikes\nback\n");
+        assertThrows(IOException.class, () -> MappedWordSearchTree.open(text));
+        // unknown version
+        final Path future = directory.resolve("future.wst");
+        tree.save(future);
+        final byte[] bytes = Files.readAllBytes(future);
+        ByteBuffer.wrap(bytes).putInt(Integer.BYTES, MappedWordSearchTree.VERSION + 1);
+        Files.write(future, bytes);
+        assertThrows(IOException.class, () -> MappedWordSearchTree.open(future));
+        // truncated
+        final Path truncated = directory.resolve("truncated.wst");
+        ByteBuffer.wrap(bytes).putInt(Integer.BYTES, MappedWordSearchTree.VERSION);
+        Files.write(truncated, Arrays.copyOf(bytes, bytes.length / 2));
+        assertThrows(IOException.class, () -> MappedWordSearchTree.open(truncated));
+    }
+
+    @Test
+    public void shouldHandleBadData() throws IOException {
+        final Path path = directory.resolve("empty.wst");
+        WordSearchTree.asTree(new HashSet<>()).save(path);
+        final MappedWordSearchTree mapped = MappedWordSearchTree.open(path);
+        assertFalse(mapped.isWord("a"));
+        assertFalse(mapped.isWord(""));
+        assertFalse(mapped.isWord(null));
+        assertFalse(mapped.isPartialWord(""));
+        assertFalse(mapped.isPartialWord(null));
+    }
+
+    /* ---------------------------------- Private Methods ---------------------------------- **/
+
+    private static HashSet<String> getLexiconFromFile() {
+        final String resourcePath = "AmericanEnglishLexicon.txt";
+        final HashSet<String> result = new HashSet<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(MappedWordSearchTreeTest.class.getClassLoader().getResourceAsStream(resourcePath)))) {
+            String line = reader.readLine();
+            while(line != null) {
+                result.add(line);
+                line = reader.readLine();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load lexicon from resource: " + resourcePath, e);
+        }
+        return result;
+    }
+
+}
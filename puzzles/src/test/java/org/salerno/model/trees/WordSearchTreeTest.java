@@ -7,14 +7,29 @@ import java.io.BufferedReader;
 import java.io.FileReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import static org.junit.jupiter.api.Assertions.assertFalse;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.*;
 
 public class WordSearchTreeTest {
 
-    private static final WordSearchTree tree = WordSearchTree.asTree(getLexiconFromFile());
+    private static final String LEXICON = "AmericanEnglishLexicon.txt";
+
+    private static final WordSearchTree tree = getTreeFromFile();
 
     @Test
     public void shouldParseWordList() {
@@ -43,8 +58,285 @@ public class WordSearchTreeTest {
         assertFalse(tree.isPartialWord("asdf"));
     }
 
+    @Test
+    public void shouldBuildFromStream() {
+        final HashSet<String> lexicon = getLexiconFromFile();
+        final WordSearchTree streamed = WordSearchTree.asTree(lexicon.stream());
+        assertEqualTrees(tree, streamed, lexicon);
+        assertTrue(WordSearchTree.asTree(Stream.of("Empire", "", null)).isWord("empire"));
+    }
+
+    @Test
+    public void shouldBuildFromPath() throws IOException, URISyntaxException {
+        final Path path = Paths.get(WordSearchTreeTest.class.getClassLoader().getResource(LEXICON).toURI());
+        assertEqualTrees(tree, WordSearchTree.asTree(path), getLexiconFromFile());
+    }
+
+    @Test
+    public void shouldBuildInParallel() {
+        final HashSet<String> lexicon = getLexiconFromFile();
+        final WordSearchTree parallel = WordSearchTree.asParallelTree(lexicon.parallelStream());
+        assertEquals(tree.rootCache.keySet(), parallel.rootCache.keySet());
+        assertEqualTrees(tree, parallel, lexicon);
+    }
+
+    @Test
+    public void shouldBuildGraph() {
+        final HashSet<String> lexicon = getLexiconFromFile();
+        final List<String> sorted = lexicon.stream().map(String::toLowerCase).sorted().collect(Collectors.toList());
+        final WordSearchTree graph = WordSearchTree.asGraph(sorted);
+        for(String word : lexicon) {
+            assertTrue(graph.isWord(word), word);
+            assertTrue(graph.isPartialWord(word.substring(0, 1 + word.length() / 2)), word);
+        }
+        assertFalse(graph.isWord("beautificati"));
+        assertTrue(graph.isPartialWord("beautificati"));
+        assertFalse(graph.isWord("asdf"));
+        assertFalse(graph.isPartialWord("asdf"));
+        // shared suffixes
+        assertTrue(CompactWordSearchTree.of(graph).nodeCount() < CompactWordSearchTree.of(tree).nodeCount() / 2);
+    }
+
+    @Test
+    public void shouldRejectUnsortedGraph() {
+        assertDoesNotThrow(() -> WordSearchTree.asGraph(List.of("back", "empire")));
+        assertThrows(IllegalArgumentException.class, () -> WordSearchTree.asGraph(List.of("strike", "back")));
+        // repeated words are ignored
+        assertTrue(WordSearchTree.asGraph(List.of("back", "Back", "backs")).isWord("backs"));
+        assertNull(WordSearchTree.asGraph(null));
+    }
+
+    @Test
+    public void shouldCompleteByWeight() {
+        final WordSearchTree weighted = WordSearchTree.asTree(Map.of(
+                "Empire", 5L, "emperor", 9L, "empty", 9L, "emptier", 1L, "Strike", 7L, "strikes", 2L, "back", 0L));
+        assertEquals(List.of("emperor", "empty", "empire"), weighted.complete("Emp", 3));
+        assertEquals(List.of("emperor", "empty", "empire", "emptier"), weighted.complete("emp", 10));
+        assertEquals(List.of("empty", "emptier"), weighted.complete("empt", 2));
+        assertEquals(List.of("emperor", "empty", "strike", "empire"), weighted.complete("", 4));
+        assertEquals(List.of("back"), weighted.complete("back", 1));
+        assertEquals(List.of(), weighted.complete("x", 1));
+        // unweighted trees complete alphabetically
+        assertEquals(List.of("beau", "beaufort", "beaujolais"), tree.complete("Beau", 3));
+    }
+
+    @Test
+    public void shouldCompleteLexicon() {
+        final HashMap<String, Long> weights = new HashMap<>();
+        for(String word : getLexiconFromFile()) weights.merge(word.toLowerCase(), (long) (word.hashCode() & 0xFFF), Math::max);
+        final WordSearchTree weighted = WordSearchTree.asTree(weights);
+        for(String prefix : List.of("", "b", "str", "beau", "un")) {
+            final Comparator<String> byWeight = Comparator.comparing(weights::get);
+            final List<String> expected = weights.keySet().stream()
+                    .filter(word -> word.startsWith(prefix))
+                    .sorted(byWeight.reversed().thenComparing(Comparator.naturalOrder()))
+                    .limit(10)
+                    .collect(Collectors.toList());
+            assertEquals(expected, weighted.complete(prefix, 10), prefix);
+        }
+    }
+
+    @Test
+    public void shouldFindSimilarWords() {
+        final Map<String, Integer> similar = tree.findSimilar("Empyre", 1);
+        assertEquals(Map.of("empire", 1), similar);
+        final Map<String, Integer> wider = tree.findSimilar("strke", 2);
+        assertEquals(1, (int) wider.get("strike"));
+        assertEquals(1, (int) wider.get("stoke"));
+        assertTrue(wider.containsValue(2));
+        // closest first
+        assertEquals(wider.values().stream().sorted().collect(Collectors.toList()), List.copyOf(wider.values()));
+        // exact match
+        assertEquals(0, (int) tree.findSimilar("back", 1).get("back"));
+        // a distance past the longest word finds every word
+        final WordSearchTree small = WordSearchTree.asTree(new HashSet<>(List.of("cat", "act", "beautification")));
+        assertEquals(Map.of("cat", 0, "act", 2, "beautification", 11), small.findSimilar("cat", Integer.MAX_VALUE));
+        assertEquals(Map.of("cat", 3, "act", 3, "beautification", 14), small.findSimilar("", Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void shouldMatchBruteForceDistances() {
+        final HashSet<String> lexicon = new HashSet<>();
+        for(String word : getLexiconFromFile()) lexicon.add(word.toLowerCase());
+        for(String query : List.of("beautifcation", "cta", "rboed", "xyz", "abed")) {
+            for(int maxDistance = 0; maxDistance <= 2; maxDistance++) {
+                final HashMap<String, Integer> expected = new HashMap<>();
+                for(String word : lexicon) {
+                    final int distance = levenshtein(query, word);
+                    if(distance <= maxDistance) expected.put(word, distance);
+                }
+                assertEquals(expected, new HashMap<>(tree.findSimilar(query, maxDistance)), query);
+            }
+        }
+    }
+
+    @Test
+    public void shouldFindWordsOutsideAlphabet() {
+        final WordSearchTree mixed = WordSearchTree.asTree(Stream.of("Caf\u00e9", "na\u00efve", "\u00c9COLE", "x-ray", "r2d2", "cafe"));
+        assertTrue(mixed.isWord("caf\u00e9"));
+        assertTrue(mixed.isWord("CAF\u00c9"));
+        assertTrue(mixed.isWord("cafe"));
+        assertTrue(mixed.isWord("\u00c9cole"));
+        assertTrue(mixed.isWord("NA\u00cfVE"));
+        assertTrue(mixed.isWord("X-Ray"));
+        assertTrue(mixed.isWord("R2D2"));
+        assertTrue(mixed.isPartialWord("na\u00ef"));
+        assertFalse(mixed.isWord("naive"));
+        assertTrue(mixed.remove("caf\u00e9"));
+        assertTrue(mixed.isWord("cafe"));
+        assertFalse(mixed.isPartialWord("caf\u00e9"));
+        assertEquals(List.of("x-ray"), mixed.complete("X-", 5));
+    }
+
+    @Test
+    public void shouldMatchPatterns() {
+        final WordSearchTree small = WordSearchTree.asTree(Stream.of("cat", "cut", "coat", "cot", "sting", "strong", "string", "stung", "st", "aa"));
+        assertEquals(List.of("cat", "cot", "cut"), match(small, "C?T"));
+        assertEquals(List.of("sting", "string", "strong", "stung"), match(small, "st*ng"));
+        assertEquals(List.of("st", "sting", "string", "strong", "stung"), match(small, "st*"));
+        assertEquals(List.of("coat"), match(small, "c??t"));
+        assertEquals(List.of("aa", "cat", "coat"), match(small, "*a*"));
+        assertEquals(List.of("cat"), match(small, "cat"));
+        assertEquals(List.of(), match(small, "ca"));
+        assertEquals(10, match(small, "*").size());
+    }
+
+    @Test
+    public void shouldMatchPatternsInLexicon() {
+        final HashSet<String> lexicon = new HashSet<>();
+        for(String word : getLexiconFromFile()) lexicon.add(word.toLowerCase());
+        for(String pattern : List.of("c?t", "st*ng", "*tion", "b??k*", "*q*u*")) {
+            final Pattern regex = Pattern.compile(pattern.replace("?", ".").replace("*", ".*"));
+            final List<String> expected = lexicon.stream().filter(word -> regex.matcher(word).matches()).sorted().collect(Collectors.toList());
+            assertEquals(expected, match(tree, pattern), pattern);
+        }
+    }
+
+    @Test
+    public void shouldMatchLetters() {
+        final ArrayList<String> words = new ArrayList<>();
+        tree.matchLetters("Tacs", words::add);
+        assertTrue(words.containsAll(List.of("act", "cast", "cat", "sac", "scat")));
+        assertFalse(words.contains("tact"));
+        assertEquals(words.size(), new HashSet<>(words).size());
+        // repeated letters and blanks
+        final HashSet<String> lexicon = new HashSet<>();
+        for(String word : getLexiconFromFile()) lexicon.add(word.toLowerCase());
+        for(String letters : List.of("tacts", "retain", "abe?", "q??")) {
+            final ArrayList<String> found = new ArrayList<>();
+            tree.matchLetters(letters, found::add);
+            final List<String> expected = lexicon.stream().filter(word -> canSpell(word, letters)).sorted().collect(Collectors.toList());
+            found.sort(null);
+            assertEquals(expected, found, letters);
+        }
+    }
+
+    @Test
+    public void shouldAddAndRemoveWords() {
+        final WordSearchTree live = WordSearchTree.asTree(Map.of("empire", 5L, "emperor", 9L, "back", 1L));
+        final long version = live.version();
+        live.add("Empires", 7L);
+        live.add("strike");
+        assertNotEquals(version, live.version());
+        assertTrue(live.isWord("empires"));
+        assertTrue(live.isWord("strike"));
+        assertEquals(List.of("emperor", "empires", "empire"), live.complete("emp", 3));
+        // remove keeps longer words
+        assertTrue(live.remove("Empire"));
+        assertFalse(live.isWord("empire"));
+        assertTrue(live.isWord("empires"));
+        final long removedVersion = live.version();
+        assertFalse(live.remove("empire"));
+        assertEquals(removedVersion, live.version());
+        // remove trims the branch and the weight hints
+        assertTrue(live.remove("emperor"));
+        assertFalse(live.isPartialWord("empe"));
+        assertEquals(List.of("empires", "back", "strike"), live.complete("", 3));
+        assertTrue(live.remove("strike"));
+        assertFalse(live.isPartialWord("s"));
+        assertFalse(live.remove("asdf"));
+        assertFalse(live.remove("emp"));
+        // graphs share nodes and can not be updated
+        final WordSearchTree graph = WordSearchTree.asGraph(List.of("back"));
+        assertThrows(UnsupportedOperationException.class, () -> graph.add("strike"));
+        assertThrows(UnsupportedOperationException.class, () -> graph.remove("back"));
+    }
+
+    @Test
+    public void shouldReadWhileUpdating() throws InterruptedException {
+        final WordSearchTree live = WordSearchTree.asTree(getLexiconFromFile());
+        final List<String> banned = List.of("empire", "strike", "back", "beautification", "abed");
+        final AtomicBoolean updating = new AtomicBoolean(true);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        // readers always find words that are never updated
+        final Runnable reader = () -> {
+            try {
+                while(updating.get()) {
+                    assertTrue(live.isWord("tested"));
+                    assertTrue(live.isPartialWord("beautif"));
+                    for(String word : banned) live.isWord(word);
+                    live.complete("em", 5);
+                }
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        };
+        final Thread[] readers = {new Thread(reader), new Thread(reader), new Thread(reader)};
+        for(Thread thread : readers) thread.start();
+        for(int i = 0; i < 2000; i++) {
+            for(String word : banned) live.remove(word);
+            for(String word : banned) live.add(word, i);
+        }
+        for(String word : banned) live.remove(word);
+        updating.set(false);
+        for(Thread thread : readers) thread.join();
+
+        assertNull(failure.get());
+        for(String word : banned) assertFalse(live.isWord(word), word);
+        assertTrue(live.isWord("empty"));
+        assertTrue(live.isWord("beautify"));
+        assertTrue(live.isWord("tested"));
+    }
+
+    @Test
+    public void shouldWalkCursor() {
+        final WordSearch.Cursor cursor = tree.cursor();
+        assertFalse(cursor.isPartialWord());
+        assertFalse(cursor.isWord());
+        for(char character : "Bac".toCharArray()) assertTrue(cursor.next(character));
+        assertTrue(cursor.isPartialWord());
+        assertFalse(cursor.isWord());
+        assertTrue(cursor.next('K'));
+        assertTrue(cursor.isWord());
+        // no word continues with 'q', the cursor stays on 'back'
+        assertFalse(cursor.next('q'));
+        assertSame(4, cursor.depth());
+        assertTrue(cursor.isWord());
+        // backtrack and take another branch
+        cursor.back();
+        cursor.back();
+        assertTrue(cursor.next('s'));
+        assertTrue(cursor.next('e'));
+        assertTrue(cursor.isWord());
+        assertSame(4, cursor.depth());
+        // deeper than the initial stack
+        cursor.reset();
+        assertSame(0, cursor.depth());
+        assertThrows(IllegalStateException.class, cursor::back);
+        for(char character : "beautification".toCharArray()) assertTrue(cursor.next(character));
+        assertTrue(cursor.isWord());
+    }
+
     @Test
     public void shouldHandleBadData() {
+        assertThrows(IllegalArgumentException.class, () -> tree.match("a".repeat(64), word -> { }));
+        assertTrue(match(tree, null).isEmpty());
+        tree.matchLetters("", word -> fail(word));
+        assertTrue(tree.findSimilar(null, 1).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> tree.findSimilar("back", -1));
+        assertTrue(tree.complete(null, 3).isEmpty());
+        assertTrue(tree.complete("emp", 0).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> WordSearchTree.asTree(Map.of("empire", -1L)));
         assertFalse(tree.isWord(""));
         assertFalse(tree.isWord(null));
         assertFalse(tree.isPartialWord(""));
@@ -53,18 +345,71 @@ public class WordSearchTreeTest {
 
     /* ---------------------------------- Private Methods ---------------------------------- **/
 
+    private static void assertEqualTrees(final WordSearchTree expected, final WordSearchTree actual, final HashSet<String> words) {
+        for(String word : words) {
+            assertTrue(actual.isWord(word), word);
+            for(int i = 1; i < word.length(); i++) {
+                final String prefix = word.substring(0, i);
+                assertEquals(expected.isWord(prefix), actual.isWord(prefix), prefix);
+            }
+        }
+        assertEquals(CompactWordSearchTree.of(expected).nodeCount(), CompactWordSearchTree.of(actual).nodeCount());
+    }
+
+    private static List<String> match(final WordSearchTree tree, final String pattern) {
+        final ArrayList<String> result = new ArrayList<>();
+        tree.match(pattern, result::add);
+        result.sort(null);
+        return result;
+    }
+
+    private static boolean canSpell(final String word, final String letters) {
+        final StringBuilder pool = new StringBuilder(letters);
+        for(char character : word.toCharArray()) {
+            int index = pool.indexOf(String.valueOf(character));
+            if(index < 0) index = pool.indexOf("?");
+            if(index < 0) return false;
+            pool.deleteCharAt(index);
+        }
+        return true;
+    }
+
+    private static int levenshtein(final String a, final String b) {
+        int[] previous = new int[b.length() + 1];
+        int[] row = new int[b.length() + 1];
+        for(int j = 0; j <= b.length(); j++) previous[j] = j;
+        for(int i = 1; i <= a.length(); i++) {
+            row[0] = i;
+            for(int j = 1; j <= b.length(); j++) {
+                final int replace = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                row[j] = Math.min(replace, Math.min(row[j - 1], previous[j]) + 1);
+            }
+            final int[] swap = previous;
+            previous = row;
+            row = swap;
+        }
+        return previous[b.length()];
+    }
+
+    private static WordSearchTree getTreeFromFile() {
+        try (Reader reader = new InputStreamReader(WordSearchTreeTest.class.getClassLoader().getResourceAsStream(LEXICON))) {
+            return WordSearchTree.asTree(reader);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load lexicon from resource: " + LEXICON, e);
+        }
+    }
+
     private static HashSet<String> getLexiconFromFile() {
-        final String resourcePath = "AmericanEnglishLexicon.txt";
         final HashSet<String> result = new HashSet<>();
         try (BufferedReader reader = new BufferedReader(
-                new InputStreamReader(WordSearchTreeTest.class.getClassLoader().getResourceAsStream(resourcePath)))) {
+                new InputStreamReader(WordSearchTreeTest.class.getClassLoader().getResourceAsStream(LEXICON)))) {
             String line = reader.readLine();
             while(line != null) {
                 result.add(line);
                 line = reader.readLine();
             }
         } catch (IOException e) {
-            throw new RuntimeException("Failed to load lexicon from resource: " + resourcePath, e);
+            throw new RuntimeException("Failed to load lexicon from resource: " + LEXICON, e);
         }
         return result;
     }
@@ -0,0 +1,58 @@
+package org.salerno.puzzles.games;
+
+import org.junit.jupiter.api.Test;
+import org.salerno.model.trees.WordSearchTree;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoardSolverTest {
+
+    @Test
+    public void shouldBuildNeighbors() {
+        final BoardSolver.Grid grid = BoardSolver.Grid.of(3, 2);
+        assertEquals(6, grid.cellCount);
+        // corners, edges and the middle
+        assertEquals(List.of(1, 3, 4), neighbors(grid, 0));
+        assertEquals(List.of(0, 2, 3, 4, 5), neighbors(grid, 1));
+        assertEquals(List.of(1, 2, 4), neighbors(grid, 5));
+        assertEquals(List.of(0, 1, 2, 3, 5, 6, 7, 8), neighbors(BoardSolver.Grid.of(3, 3), 4));
+        // grids are shared by size
+        assertSame(grid, BoardSolver.Grid.of(3, 2));
+        assertNotSame(grid, BoardSolver.Grid.of(2, 3));
+        // but not past the largest size kept, so odd sizes do not pile up
+        assertSame(BoardSolver.Grid.of(16, 16), BoardSolver.Grid.of(16, 16));
+        assertNotSame(BoardSolver.Grid.of(17, 2), BoardSolver.Grid.of(17, 2));
+        assertEquals(List.of(0, 1, 2, 17, 19, 34, 35, 36), neighbors(BoardSolver.Grid.of(17, 3), 18));
+    }
+
+    @Test
+    public void shouldReuseBuffersAcrossBoards() {
+        final BoardSolver solver = new BoardSolver(WordSearchTree.asTree(new HashSet<>(List.of("cat", "act", "tack", "attack"))), 3);
+        final ArrayList<String> words = new ArrayList<>();
+        solver.solve(BoardSolver.Grid.of(2, 2), "catk", words::add);
+        assertEquals(List.of("cat", "act", "tack"), words);
+        // a larger board grows the buffers
+        words.clear();
+        solver.solve(BoardSolver.Grid.of(9, 9), "attack" + "x".repeat(75), words::add);
+        assertEquals(List.of("attack", "tack", "cat"), words);
+        // and a smaller board reuses them
+        words.clear();
+        solver.solve(BoardSolver.Grid.of(3, 1), "TAC", words::add);
+        assertEquals(List.of("CAT"), words);
+    }
+
+    /* ---------------------------------- Private Methods ---------------------------------- **/
+
+    private static List<Integer> neighbors(final BoardSolver.Grid grid, final int cell) {
+        final ArrayList<Integer> result = new ArrayList<>();
+        for(int edge = grid.firstNeighbor[cell]; edge < grid.firstNeighbor[cell + 1]; edge++) {
+            result.add(grid.neighbors[edge]);
+        }
+        return result;
+    }
+
+}
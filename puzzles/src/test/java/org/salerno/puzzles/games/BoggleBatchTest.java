@@ -0,0 +1,124 @@
+package org.salerno.puzzles.games;
+
+import org.junit.jupiter.api.Test;
+import org.salerno.model.trees.WordSearch;
+import org.salerno.model.trees.WordSearchTree;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoggleBatchTest {
+
+    private static final WordSearch lexicon = WordSearchTree.asTree(getLexiconFromFile());
+    private static final Boggle boggle = new Boggle(lexicon);
+
+    @Test
+    public void shouldSolveBoardsInOrder() {
+        final List<String> boards = randomBoards(200, 16);
+        final ArrayList<HashSet<String>> results = new ArrayList<>();
+        try (BoggleBatch batch = new BoggleBatch(lexicon, 4, 8)) {
+            final BoggleBatch.Stats stats = batch.solve(4, 4, boards.iterator(), results::add);
+            assertEquals(200, stats.boards());
+            assertTrue(stats.boardsPerSecond() > 0);
+        }
+        assertEquals(200, results.size());
+        for(int i = 0; i < boards.size(); i++) {
+            assertEquals(boggle.solveBoard(4, 4, boards.get(i)), results.get(i), boards.get(i));
+        }
+    }
+
+    @Test
+    public void shouldStreamBoardsInOrder() {
+        final List<String> boards = randomBoards(50, 25);
+        try (BoggleBatch batch = new BoggleBatch(lexicon, 3, 6);
+             Stream<HashSet<String>> results = batch.solve(5, 5, boards.stream())) {
+            final List<HashSet<String>> expected = boards.stream().map(board -> boggle.solveBoard(5, 5, board)).collect(Collectors.toList());
+            assertEquals(expected, results.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void shouldBoundBoardsInFlight() {
+        final AtomicInteger pulled = new AtomicInteger();
+        final AtomicInteger received = new AtomicInteger();
+        final Iterator<String> boards = randomBoards(100, 16).stream().peek(board -> pulled.incrementAndGet()).iterator();
+        try (BoggleBatch batch = new BoggleBatch(lexicon, 2, 5)) {
+            batch.solve(4, 4, boards, words -> {
+                assertTrue(pulled.get() - received.get() <= 5);
+                received.incrementAndGet();
+            });
+        }
+        assertEquals(100, received.get());
+        // a stream only pulls the boards it needs
+        pulled.set(0);
+        try (BoggleBatch batch = new BoggleBatch(lexicon, 2, 5)) {
+            final long count = batch.solve(4, 4, Stream.generate(() -> "abcdefghijklmnop").peek(board -> pulled.incrementAndGet())).limit(10).count();
+            assertEquals(10, count);
+            assertTrue(pulled.get() <= 15);
+        }
+    }
+
+    @Test
+    public void shouldHandleBadData() {
+        try (BoggleBatch batch = new BoggleBatch(lexicon, 1, 1)) {
+            final ArrayList<HashSet<String>> results = new ArrayList<>();
+            batch.solve(3, 3, List.of("yoxrbaved", "yox", "").iterator(), results::add);
+            assertEquals(3, results.size());
+            assertFalse(results.get(0).isEmpty());
+            assertTrue(results.get(1).isEmpty());
+            assertTrue(results.get(2).isEmpty());
+            // bad size
+            results.clear();
+            batch.solve(-3, 3, List.of("yoxrbaved").iterator(), results::add);
+            assertTrue(results.get(0).isEmpty());
+            // no boards
+            assertEquals(0, batch.solve(3, 3, List.<String>of().iterator(), results::add).boards());
+        }
+        assertThrows(IllegalArgumentException.class, () -> new BoggleBatch(lexicon, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new BoggleBatch(lexicon, 1, 0));
+    }
+
+    /* ---------------------------------- Private Methods ---------------------------------- **/
+
+    private static List<String> randomBoards(final int count, final int area) {
+        final Random random = new Random(11);
+        final String letters = "aaabcdeeeefghiiijklmnnooprrssstttuuvwy";
+        final ArrayList<String> boards = new ArrayList<>();
+        for(int board = 0; board < count; board++) {
+            final StringBuilder builder = new StringBuilder();
+            for(int i = 0; i < area; i++) {
+                builder.append(letters.charAt(random.nextInt(letters.length())));
+            }
+            boards.add(builder.toString());
+        }
+        return boards;
+    }
+
+    private static HashSet<String> getLexiconFromFile() {
+        final String resourcePath = "AmericanEnglishLexicon.txt";
+        final HashSet<String> result = new HashSet<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(BoggleBatchTest.class.getClassLoader().getResourceAsStream(resourcePath)))) {
+            String line = reader.readLine();
+            while(line != null) {
+                result.add(line);
+                line = reader.readLine();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load lexicon from resource: " + resourcePath, e);
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,123 @@
+package org.salerno.puzzles.games;
+
+import org.junit.jupiter.api.Test;
+import org.salerno.model.trees.WordSearchTree;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoggleCacheTest {
+
+    private static final Boggle boggle = new Boggle(getLexiconFromFile());
+
+    @Test
+    public void shouldFoldSymmetricBoards() {
+        // every rotation and reflection, such as a flip and a quarter turn
+        // y o x    x o y    v r y
+        // r b a    a b r    e b o
+        // v e d    d e v    d a x
+        final List<String> symmetric = List.of("yoxrbaved", "xoyabrdev", "vedrbayox", "devabrxoy",
+                "yrvobexad", "vryebodax", "xadobeyrv", "daxebovry");
+        final String key = BoggleCache.canonicalKey(3, 3, "yoxrbaved");
+        for(String board : symmetric) {
+            assertEquals(key, BoggleCache.canonicalKey(3, 3, board), board);
+        }
+        assertNotEquals(key, BoggleCache.canonicalKey(3, 3, "yoxrbavde"));
+
+        final BoggleCache cache = new BoggleCache(boggle, 10);
+        for(String board : symmetric) {
+            assertEquals(boggle.solveBoard(3, 3, board), cache.solveBoard(3, 3, board), board);
+        }
+        assertEquals(1, cache.misses());
+        assertEquals(7, cache.hits());
+        assertEquals(1, cache.size());
+        assertEquals(7 / 8.0, cache.hitRate());
+    }
+
+    @Test
+    public void shouldFoldRectangularBoards() {
+        // a half turn keeps the shape, a quarter turn does not
+        assertEquals(BoggleCache.canonicalKey(4, 2, "abcdefgh"), BoggleCache.canonicalKey(4, 2, "hgfedcba"));
+        assertEquals(BoggleCache.canonicalKey(4, 2, "abcdefgh"), BoggleCache.canonicalKey(4, 2, "dcbahgfe"));
+        assertNotEquals(BoggleCache.canonicalKey(4, 2, "abcdefgh"), BoggleCache.canonicalKey(2, 4, "abcdefgh"));
+
+        final BoggleCache cache = new BoggleCache(boggle, 10);
+        assertEquals(boggle.solveBoard(4, 2, "robedxay"), cache.solveBoard(4, 2, "robedxay"));
+        assertEquals(boggle.solveBoard(4, 2, "yaxdebor"), cache.solveBoard(4, 2, "yaxdebor"));
+        assertEquals(1, cache.hits());
+    }
+
+    @Test
+    public void shouldDropBoardsAfterLexiconChanges() {
+        final WordSearchTree tree = WordSearchTree.asTree(new HashSet<>(List.of("cat", "act")));
+        final BoggleCache cache = new BoggleCache(new Boggle(tree), 10);
+        assertEquals(new HashSet<>(List.of("cat", "act")), cache.solveBoard(2, 2, "catd"));
+        tree.add("tad");
+        tree.remove("cat");
+        assertEquals(new HashSet<>(List.of("act", "tad")), cache.solveBoard(2, 2, "catd"));
+        assertEquals(0, cache.hits());
+        assertEquals(1, cache.size());
+        // the new words are cached
+        assertEquals(new HashSet<>(List.of("act", "tad")), cache.solveBoard(2, 2, "catd"));
+        assertEquals(1, cache.hits());
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsed() {
+        final BoggleCache cache = new BoggleCache(boggle, 2);
+        cache.solveBoard(3, 3, "yoxrbaved");
+        cache.solveBoard(3, 3, "catdogpig");
+        // use the first board, so the second is the least recently used
+        cache.solveBoard(3, 3, "yoxrbaved");
+        cache.solveBoard(3, 3, "abcdefghi");
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.evictions());
+        cache.solveBoard(3, 3, "yoxrbaved");
+        assertEquals(2, cache.hits());
+        cache.solveBoard(3, 3, "catdogpig");
+        assertEquals(4, cache.misses());
+    }
+
+    @Test
+    public void shouldReturnCopies() {
+        final BoggleCache cache = new BoggleCache(boggle, 2);
+        cache.solveBoard(3, 3, "yoxrbaved").clear();
+        assertTrue(cache.solveBoard(3, 3, "yoxrbaved").contains("abed"));
+    }
+
+    @Test
+    public void shouldHandleBadData() {
+        final BoggleCache cache = new BoggleCache(boggle, 2);
+        assertTrue(cache.solveBoard(3, 3, null).isEmpty());
+        assertTrue(cache.solveBoard(3, 3, "yox").isEmpty());
+        assertTrue(cache.solveBoard(-3, -3, "yoxrbaved").isEmpty());
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.misses());
+        assertEquals(0.0, cache.hitRate());
+        assertThrows(IllegalArgumentException.class, () -> new BoggleCache(boggle, 0));
+    }
+
+    /* ---------------------------------- Private Methods ---------------------------------- **/
+
+    private static HashSet<String> getLexiconFromFile() {
+        final String resourcePath = "AmericanEnglishLexicon.txt";
+        final HashSet<String> result = new HashSet<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(BoggleCacheTest.class.getClassLoader().getResourceAsStream(resourcePath)))) {
+            String line = reader.readLine();
+            while(line != null) {
+                result.add(line);
+                line = reader.readLine();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load lexicon from resource: " + resourcePath, e);
+        }
+        return result;
+    }
+
+}
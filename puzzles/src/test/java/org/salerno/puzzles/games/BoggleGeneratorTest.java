@@ -0,0 +1,91 @@
+package org.salerno.puzzles.games;
+
+import org.junit.jupiter.api.Test;
+import org.salerno.model.trees.WordSearch;
+import org.salerno.model.trees.WordSearchTree;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoggleGeneratorTest {
+
+    private static final WordSearch lexicon = WordSearchTree.asTree(getLexiconFromFile());
+    private static final Boggle boggle = new Boggle(lexicon);
+
+    @Test
+    public void shouldScoreWords() {
+        assertEquals(0, Boggle.score("be"));
+        assertEquals(1, Boggle.score("bed"));
+        assertEquals(1, Boggle.score("bead"));
+        assertEquals(2, Boggle.score("bored"));
+        assertEquals(3, Boggle.score("bready"));
+        assertEquals(5, Boggle.score("boarded"));
+        assertEquals(11, Boggle.score("boardroom"));
+        assertEquals(0, Boggle.score((String) null));
+        assertEquals(1 + 2 + 11, Boggle.score(List.of("bed", "bored", "boardroom")));
+    }
+
+    @Test
+    public void shouldGenerateHighScoringBoard() {
+        final BoggleGenerator.Result result = new BoggleGenerator(lexicon, 2, 1).generate(4, 4, 2, 1500, null);
+        assertEquals(16, result.board().length());
+        // the score is the score of the words on the board
+        assertEquals(Boggle.score(boggle.solveBoard(4, 4, result.board())), result.score());
+        assertEquals(3000, result.evaluations());
+        assertTrue(result.evaluationsPerSecond() > 0);
+        // random 4x4 boards score around 20
+        assertTrue(result.score() > 100, result.toString());
+    }
+
+    @Test
+    public void shouldGenerateSameBoardForSameSeed() {
+        final BoggleGenerator.Result first = new BoggleGenerator(lexicon, 3, 7).generate(3, 3, 3, 200, null);
+        final BoggleGenerator.Result second = new BoggleGenerator(lexicon, 1, 7).generate(3, 3, 3, 200, null);
+        assertEquals(first.board(), second.board());
+        assertEquals(first.score(), second.score());
+    }
+
+    @Test
+    public void shouldStopWhenTimeIsUp() {
+        final long start = System.nanoTime();
+        final BoggleGenerator.Result result = new BoggleGenerator(lexicon, 2, 1).generate(5, 5, 4, Integer.MAX_VALUE, Duration.ofMillis(200));
+        assertTrue(System.nanoTime() - start < Duration.ofSeconds(5).toNanos());
+        assertEquals(Boggle.score(boggle.solveBoard(5, 5, result.board())), result.score());
+    }
+
+    @Test
+    public void shouldHandleBadData() {
+        final BoggleGenerator generator = new BoggleGenerator(lexicon, 1, 1);
+        assertThrows(IllegalArgumentException.class, () -> generator.generate(0, 4, 1, 1, null));
+        assertThrows(IllegalArgumentException.class, () -> generator.generate(4, 4, 0, 1, null));
+        assertThrows(IllegalArgumentException.class, () -> generator.generate(4, 4, 1, 0, null));
+        assertThrows(IllegalArgumentException.class, () -> new BoggleGenerator(lexicon, 0, 1));
+        // a board too small for any word
+        assertEquals(0, generator.generate(2, 1, 1, 10, null).score());
+    }
+
+    /* ---------------------------------- Private Methods ---------------------------------- **/
+
+    private static HashSet<String> getLexiconFromFile() {
+        final String resourcePath = "AmericanEnglishLexicon.txt";
+        final HashSet<String> result = new HashSet<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(BoggleGeneratorTest.class.getClassLoader().getResourceAsStream(resourcePath)))) {
+            String line = reader.readLine();
+            while(line != null) {
+                result.add(line);
+                line = reader.readLine();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load lexicon from resource: " + resourcePath, e);
+        }
+        return result;
+    }
+
+}
@@ -1,11 +1,18 @@
 package org.salerno.puzzles.games;
 
 import org.junit.jupiter.api.Test;
+import org.salerno.model.trees.CompactWordSearchTree;
+import org.salerno.model.trees.WordSearchTree;
 
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Random;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -58,8 +65,139 @@ public class BoggleTest {
         assertFalse(solution.contains("dove"));
     }
 
+    @Test
+    public void shouldSolveBoardWithPrebuiltLexicon() {
+        final Boggle compact = new Boggle(CompactWordSearchTree.asTree(getLexiconFromFile()));
+        assertEquals(boggle.solveBoard(3, 3, "yoxrbaved"), compact.solveBoard(3, 3, "yoxrbaved"));
+    }
+
+    @Test
+    public void shouldSolveBoardAfterLexiconChanges() {
+        final WordSearchTree tree = WordSearchTree.asTree(new HashSet<>(Arrays.asList("cat", "act")));
+        final Boggle small = new Boggle(tree);
+        assertEquals(new HashSet<>(Arrays.asList("cat", "act")), small.solveBoard(2, 2, "catd"));
+        tree.add("tad");
+        assertEquals(new HashSet<>(Arrays.asList("cat", "act", "tad")), small.solveBoard(2, 2, "catd"));
+        tree.remove("cat");
+        assertEquals(new HashSet<>(Arrays.asList("act", "tad")), small.solveBoard(2, 2, "catd"));
+        assertEquals(small.solveBoardLegacy(2, 2, "catd"), small.solveBoard(2, 2, "catd"));
+        assertEquals(small.solveBoard(2, 2, "catd"), small.solveBoard(2, 2, "catd", null, Long.MAX_VALUE).words());
+    }
+
+    @Test
+    public void shouldMatchLegacySolver() {
+        final Random random = new Random(42);
+        final int[][] sizes = {{3, 3}, {4, 4}, {5, 5}, {4, 6}, {6, 3}, {1, 5}};
+        for(int[] size : sizes) {
+            for(int board = 0; board < 5; board++) {
+                final String letters = randomLetters(random, size[0] * size[1]);
+                assertEquals(boggle.solveBoardLegacy(size[0], size[1], letters), boggle.solveBoard(size[0], size[1], letters), letters);
+            }
+        }
+    }
+
+    @Test
+    public void shouldMatchSequentialSolverInParallel() {
+        final Boggle parallel = new Boggle(boggle.wordSearchTree, 4);
+        final Random random = new Random(7);
+        // small boards are solved on the calling thread, large boards split by second cell
+        final int[][] sizes = {{3, 3}, {4, 4}, {5, 5}, {7, 3}, {8, 8}, {12, 10}};
+        for(int[] size : sizes) {
+            for(int board = 0; board < 3; board++) {
+                final String letters = randomLetters(random, size[0] * size[1]);
+                assertEquals(boggle.solveBoard(size[0], size[1], letters), parallel.solveBoard(size[0], size[1], letters), letters);
+            }
+        }
+        // boards solved at the same time do not mix
+        final String[] boards = {randomLetters(random, 100), randomLetters(random, 100), randomLetters(random, 100)};
+        Arrays.stream(boards).parallel().forEach(letters ->
+                assertEquals(boggle.solveBoard(10, 10, letters), parallel.solveBoard(10, 10, letters), letters));
+        assertThrows(IllegalArgumentException.class, () -> new Boggle(boggle.wordSearchTree, 0));
+    }
+
+    @Test
+    public void shouldSolveBoardAfterClose() {
+        final Random random = new Random(11);
+        final String letters = randomLetters(random, 64);
+        final HashSet<String> expected = boggle.solveBoard(8, 8, letters);
+        try (Boggle parallel = new Boggle(boggle.wordSearchTree, 2)) {
+            assertEquals(expected, parallel.solveBoard(8, 8, letters));
+            parallel.close();
+            // the threads are stopped, the board is solved on the calling thread
+            assertEquals(expected, parallel.solveBoard(8, 8, letters));
+        }
+        // closed while boards are being solved, every board still gets its words
+        final Boggle closing = new Boggle(boggle.wordSearchTree, 2);
+        final Thread closer = new Thread(closing::close);
+        closer.start();
+        Arrays.stream(new String[8]).parallel().forEach(board -> assertEquals(expected, closing.solveBoard(8, 8, letters)));
+        // closing a Boggle without threads does nothing
+        final Boggle sequential = new Boggle(boggle.wordSearchTree);
+        sequential.close();
+        assertEquals(expected, sequential.solveBoard(8, 8, letters));
+    }
+
+    @Test
+    public void shouldStreamDistinctWords() {
+        final Random random = new Random(3);
+        final int[][] sizes = {{3, 3}, {4, 4}, {6, 5}, {12, 12}};
+        for(int[] size : sizes) {
+            final String letters = randomLetters(random, size[0] * size[1]);
+            final ArrayList<String> words = new ArrayList<>();
+            boggle.solveBoard(size[0], size[1], letters, words::add);
+            assertEquals(words.size(), new HashSet<>(words).size(), letters);
+            assertEquals(boggle.solveBoard(size[0], size[1], letters), new HashSet<>(words), letters);
+        }
+        // words are kept in the case of the board
+        assertEquals(boggle.solveBoard(3, 3, "YOXrbaVED"), boggle.streamBoard(3, 3, "YOXrbaVED").collect(Collectors.toSet()));
+        // a stream stops searching once it has what it needs
+        assertEquals(5, boggle.streamBoard(3, 3, "yoxrbaved").limit(5).count());
+    }
+
+    @Test
+    public void shouldStreamVeryLargeBoard() {
+        final String letters = randomLetters(new Random(5), 60 * 60);
+        final HashSet<String> words = new HashSet<>();
+        boggle.solveBoard(60, 60, letters, word -> assertTrue(words.add(word), word));
+        assertEquals(boggle.solveBoard(60, 60, letters), words);
+    }
+
+    @Test
+    public void shouldSolveBoardWithinLimits() {
+        final String letters = randomLetters(new Random(7), 9 * 9);
+        final HashSet<String> words = boggle.solveBoard(9, 9, letters);
+        // no limits
+        Boggle.Solution solution = boggle.solveBoard(9, 9, letters, null, Long.MAX_VALUE);
+        assertTrue(solution.isComplete());
+        assertEquals(words, solution.words());
+        final long nodes = solution.nodes();
+        // exactly enough letters
+        solution = boggle.solveBoard(9, 9, letters, Duration.ofMinutes(1), nodes);
+        assertTrue(solution.isComplete());
+        assertEquals(words, solution.words());
+        // too few letters
+        solution = boggle.solveBoard(9, 9, letters, null, 1000);
+        assertFalse(solution.isComplete());
+        assertEquals(1000, solution.nodes());
+        assertFalse(solution.words().isEmpty());
+        assertTrue(words.containsAll(solution.words()));
+        // no time
+        solution = boggle.solveBoard(60, 60, randomLetters(new Random(5), 60 * 60), Duration.ZERO, Long.MAX_VALUE);
+        assertFalse(solution.isComplete());
+        // a tenth of the search finds at least a tenth of the score, the best words come first
+        solution = boggle.solveBoard(9, 9, letters, null, nodes / 10);
+        assertTrue(Boggle.score(solution.words()) * 10 >= Boggle.score(words));
+    }
+
     @Test
     public void shouldHandleBadData() {
+        assertThrows(IllegalArgumentException.class, () -> boggle.solveBoard(3, 3, "yoxrbaved", null, -1));
+        assertTrue(boggle.solveBoard(3, 3, "yox", null, 10).isComplete());
+        assertTrue(boggle.solveBoard(3, 3, null, null, 10).words().isEmpty());
+        assertEquals(0, boggle.streamBoard(3, 3, "yox").count());
+        assertEquals(0, boggle.streamBoard(3, 3, null).count());
+        // single letter
+        assertTrue(boggle.solveBoard(1, 1, "a").isEmpty());
         // not enough letters
         HashSet<String> solution = boggle.solveBoard(3, 3, "yoxrba");
         assertSame(0, solution.size());
@@ -86,6 +224,16 @@ public class BoggleTest {
 
     /* ---------------------------------- Private Methods ---------------------------------- **/
 
+    private static String randomLetters(final Random random, final int length) {
+        // weighted towards common letters so boards have plenty of words
+        final String letters = "aaabcdeeeefghiiijklmnnooprrssstttuuvwy";
+        final StringBuilder builder = new StringBuilder();
+        for(int i = 0; i < length; i++) {
+            builder.append(letters.charAt(random.nextInt(letters.length())));
+        }
+        return builder.toString();
+    }
+
     private static HashSet<String> getLexiconFromFile() {
         final String resourcePath = "AmericanEnglishLexicon.txt";
         final HashSet<String> result = new HashSet<>();
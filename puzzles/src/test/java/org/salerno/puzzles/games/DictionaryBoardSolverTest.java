@@ -0,0 +1,114 @@
+package org.salerno.puzzles.games;
+
+import org.junit.jupiter.api.Test;
+import org.salerno.model.trees.WordSearchTree;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DictionaryBoardSolverTest {
+
+    @Test
+    public void shouldFindEachWordOnce() {
+        final WordSearchTree lexicon = WordSearchTree.asTree(new HashSet<>(List.of("cat", "act", "tack", "attack", "at", "Tact")));
+        final DictionaryBoardSolver solver = new DictionaryBoardSolver(DictionaryBoardSolver.Words.of(lexicon, 3, 100));
+        final ArrayList<String> words = new ArrayList<>();
+        // c a t
+        // a k c
+        solver.solve(BoardSolver.Grid.of(3, 2), "catakc", words::add);
+        assertEquals(List.of("act", "cat", "tack"), words);
+        // the last two letters of tack have fewer cells than the first two, so it is followed backwards
+        words.clear();
+        solver.solve(BoardSolver.Grid.of(9, 9), "tackc" + "t".repeat(76), words::add);
+        assertEquals(List.of("act", "cat", "tack", "tact"), words);
+    }
+
+    @Test
+    public void shouldMatchBoardSolver() {
+        final ArrayList<String> lexicon = new ArrayList<>(getLexiconFromFile());
+        Collections.sort(lexicon);
+        Collections.shuffle(lexicon, new Random(1));
+        final Random random = new Random(3);
+        for(int wordCount : new int[] {10, 100, 1000}) {
+            final WordSearchTree tree = WordSearchTree.asTree(new HashSet<>(lexicon.subList(0, wordCount)));
+            final DictionaryBoardSolver solver = new DictionaryBoardSolver(DictionaryBoardSolver.Words.of(tree, 3, wordCount));
+            for(int size : new int[] {2, 4, 9, 20}) {
+                final String letters = randomLetters(random, size * size);
+                final BoardSolver.Grid grid = BoardSolver.Grid.of(size, size);
+                final HashSet<String> expected = new HashSet<>();
+                new BoardSolver(tree, 3).solve(grid, letters, expected::add);
+                final ArrayList<String> words = new ArrayList<>();
+                solver.solve(grid, letters, words::add);
+                assertEquals(expected, new HashSet<>(words), letters);
+                assertEquals(expected.size(), words.size(), letters);
+            }
+        }
+    }
+
+    @Test
+    public void shouldFindLongWords() {
+        // longer than the first path buffer of the walk, laid out along a single row
+        final String word = "abcdefghij".repeat(10);
+        final WordSearchTree lexicon = WordSearchTree.asTree(new HashSet<>(List.of(word, "abc")));
+        final DictionaryBoardSolver solver = new DictionaryBoardSolver(DictionaryBoardSolver.Words.of(lexicon, 3, 100));
+        final ArrayList<String> words = new ArrayList<>();
+        solver.solve(BoardSolver.Grid.of(100, 1), word, words::add);
+        assertEquals(List.of("abc", word), words);
+    }
+
+    @Test
+    public void shouldStopPackingLargeLexicon() {
+        final WordSearchTree lexicon = WordSearchTree.asTree(new HashSet<>(List.of("cat", "act", "tack", "at")));
+        assertEquals(3, DictionaryBoardSolver.Words.of(lexicon, 3, 3).count);
+        assertNull(DictionaryBoardSolver.Words.of(lexicon, 3, 2));
+        assertEquals(4, DictionaryBoardSolver.Words.of(lexicon, 2, 4).count);
+    }
+
+    @Test
+    public void shouldOnlySolveLowercaseBoards() {
+        assertTrue(DictionaryBoardSolver.canSolve("yoxrbaved"));
+        assertFalse(DictionaryBoardSolver.canSolve("yoxrbaveD"));
+        assertFalse(DictionaryBoardSolver.canSolve("yoxrb ved"));
+        // a mixed case board is searched, keeping the case of the board
+        final Boggle boggle = new Boggle(WordSearchTree.asTree(new HashSet<>(List.of("bad", "bead"))));
+        assertEquals(new HashSet<>(List.of("bad", "bead")), boggle.solveBoard(3, 3, "yoxrbaved"));
+        assertEquals(new HashSet<>(List.of("BaD", "BeaD")), boggle.solveBoard(3, 3, "yoxrBaveD"));
+    }
+
+    /* ---------------------------------- Private Methods ---------------------------------- **/
+
+    private static String randomLetters(final Random random, final int length) {
+        // weighted towards common letters so boards have plenty of words
+        final String letters = "aaabcdeeeefghiiijklmnnooprrssstttuuvwy";
+        final StringBuilder builder = new StringBuilder();
+        for(int i = 0; i < length; i++) {
+            builder.append(letters.charAt(random.nextInt(letters.length())));
+        }
+        return builder.toString();
+    }
+
+    private static HashSet<String> getLexiconFromFile() {
+        final String resourcePath = "AmericanEnglishLexicon.txt";
+        final HashSet<String> result = new HashSet<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(DictionaryBoardSolverTest.class.getClassLoader().getResourceAsStream(resourcePath)))) {
+            String line = reader.readLine();
+            while(line != null) {
+                result.add(line);
+                line = reader.readLine();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load lexicon from resource: " + resourcePath, e);
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,103 @@
+package org.salerno.puzzles.games;
+
+import org.junit.jupiter.api.Test;
+import org.salerno.model.trees.WordSearch;
+import org.salerno.model.trees.WordSearchTree;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IncrementalBoggleTest {
+
+    private static final WordSearch lexicon = WordSearchTree.asTree(getLexiconFromFile());
+    private static final Boggle boggle = new Boggle(lexicon);
+
+    @Test
+    public void shouldSolveBoard() {
+        final IncrementalBoggle board = new IncrementalBoggle(lexicon, 3, 3, "yoxrbaved");
+        assertEquals(boggle.solveBoard(3, 3, "yoxrbaved"), board.words());
+        assertTrue(board.pathCount() >= board.words().size());
+    }
+
+    @Test
+    public void shouldUpdateWordsWhenTileChanges() {
+        // y o x
+        // r b a
+        // v e d
+        final IncrementalBoggle board = new IncrementalBoggle(lexicon, 3, 3, "yoxrbaved");
+        // x -> r makes 'boar' and 'bar', and drops 'box'
+        final IncrementalBoggle.Delta delta = board.setTile(2, 0, 'r');
+        assertEquals("yorrbaved", board.board());
+        assertTrue(delta.added().contains("boar"));
+        assertTrue(delta.added().contains("bar"));
+        assertTrue(delta.removed().contains("box"));
+        assertFalse(delta.removed().contains("bead"));
+        assertEquals(boggle.solveBoard(3, 3, "yorrbaved"), board.words());
+        // the same letter changes nothing
+        assertTrue(board.setTile(2, 0, 'r').isEmpty());
+    }
+
+    @Test
+    public void shouldMatchFullSolveAfterEachChange() {
+        final Random random = new Random(9);
+        final String letters = "aaabcdeeeefghiiijklmnnooprrssstttuuvwy";
+        final int[][] sizes = {{4, 4}, {5, 5}, {12, 9}};
+        for(int[] size : sizes) {
+            final char[] chars = new char[size[0] * size[1]];
+            for(int i = 0; i < chars.length; i++) chars[i] = letters.charAt(random.nextInt(letters.length()));
+            final IncrementalBoggle board = new IncrementalBoggle(lexicon, size[0], size[1], String.valueOf(chars));
+            for(int edit = 0; edit < 40; edit++) {
+                final Set<String> before = new HashSet<>(board.words());
+                final int x = random.nextInt(size[0]);
+                final int y = random.nextInt(size[1]);
+                // sometimes a letter never seen on the board, so the longest word grows
+                final char letter = edit == 20 ? 'z' : letters.charAt(random.nextInt(letters.length()));
+                final IncrementalBoggle.Delta delta = board.setTile(x, y, letter);
+
+                final HashSet<String> expected = boggle.solveBoard(size[0], size[1], board.board());
+                assertEquals(expected, board.words(), board.board());
+                final HashSet<String> added = new HashSet<>(expected);
+                added.removeAll(before);
+                final HashSet<String> removed = new HashSet<>(before);
+                removed.removeAll(expected);
+                assertEquals(added, delta.added());
+                assertEquals(removed, delta.removed());
+            }
+        }
+    }
+
+    @Test
+    public void shouldHandleBadData() {
+        assertThrows(IllegalArgumentException.class, () -> new IncrementalBoggle(lexicon, 3, 3, "yox"));
+        assertThrows(IllegalArgumentException.class, () -> new IncrementalBoggle(lexicon, 3, 3, null));
+        final IncrementalBoggle board = new IncrementalBoggle(lexicon, 3, 3, "yoxrbaved");
+        assertThrows(IndexOutOfBoundsException.class, () -> board.setTile(3, 0, 'a'));
+        assertThrows(IndexOutOfBoundsException.class, () -> board.setTile(0, -1, 'a'));
+        assertThrows(UnsupportedOperationException.class, () -> board.words().add("zebra"));
+    }
+
+    /* ---------------------------------- Private Methods ---------------------------------- **/
+
+    private static HashSet<String> getLexiconFromFile() {
+        final String resourcePath = "AmericanEnglishLexicon.txt";
+        final HashSet<String> result = new HashSet<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(IncrementalBoggleTest.class.getClassLoader().getResourceAsStream(resourcePath)))) {
+            String line = reader.readLine();
+            while(line != null) {
+                result.add(line);
+                line = reader.readLine();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load lexicon from resource: " + resourcePath, e);
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,33 @@
+package org.salerno.puzzles.games;
+
+import org.junit.jupiter.api.Test;
+import org.salerno.model.trees.WordSearchTree;
+
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LexiconStatsTest {
+
+    @Test
+    public void shouldScoreWordsByFirstPair() {
+        final WordSearchTree lexicon = WordSearchTree.asTree(new HashSet<>(List.of("at", "cat", "cats", "catch", "act")));
+        final LexiconStats stats = LexiconStats.of(lexicon);
+        assertEquals(4, stats.wordCount);
+        assertEquals(Boggle.score(3) + Boggle.score(4) + Boggle.score(5), stats.pairScore('c', 'a'));
+        assertEquals(Boggle.score(3), stats.pairScore('A', 'C'));
+        assertEquals(0, stats.pairScore('a', 't'));
+        assertEquals(0, stats.pairScore('c', '1'));
+    }
+
+    @Test
+    public void shouldCountLongWords() {
+        // far longer than any board a person plays, still a word of the lexicon
+        final String word = "abcdefghij".repeat(10);
+        final LexiconStats stats = LexiconStats.of(WordSearchTree.asTree(new HashSet<>(List.of(word, "abc"))));
+        assertEquals(2, stats.wordCount);
+        assertEquals(Boggle.score(3) + Boggle.score(word.length()), stats.pairScore('a', 'b'));
+    }
+
+}
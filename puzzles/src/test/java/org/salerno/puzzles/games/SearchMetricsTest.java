@@ -0,0 +1,90 @@
+package org.salerno.puzzles.games;
+
+import org.junit.jupiter.api.Test;
+import org.salerno.model.trees.WordSearchTree;
+
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SearchMetricsTest {
+
+    private static final WordSearchTree lexicon = WordSearchTree.asTree(new HashSet<>(List.of(
+            "bad", "bade", "bed", "bead", "bear", "bore", "dab", "dare", "dear", "read", "robe", "yore")));
+
+    @Test
+    public void shouldCountSearch() {
+        final SearchMetrics metrics = new SearchMetrics();
+        final Boggle boggle = new Boggle(lexicon, 1, metrics);
+        final HashSet<String> words = boggle.solveBoard(3, 3, "yoxrbaved");
+        assertEquals(new Boggle(lexicon).solveBoard(3, 3, "yoxrbaved"), words);
+
+        final SearchMetrics.Snapshot snapshot = metrics.snapshot();
+        assertEquals(1, snapshot.boards());
+        // the cells whose letter starts a word: y, r, b and d
+        // y o x
+        // r b a
+        // v e d
+        final long[] firstLetters = snapshot.branching(1);
+        long starts = 0;
+        for(long nodes : firstLetters) {
+            starts += nodes;
+        }
+        assertEquals(4, starts);
+        // each branch from one depth is a node at the next
+        long cellsVisited = 0;
+        for(int depth = 1; depth <= snapshot.maxDepth(); depth++) {
+            final long[] histogram = snapshot.branching(depth);
+            final long[] next = snapshot.branching(depth + 1);
+            long branches = 0;
+            long nextNodes = 0;
+            for(int i = 0; i < SearchMetrics.MAX_BRANCHES; i++) {
+                branches += i * histogram[i];
+                nextNodes += next[i];
+                cellsVisited += histogram[i];
+            }
+            assertEquals(branches, nextNodes, "depth " + depth);
+        }
+        assertEquals(cellsVisited, snapshot.cellsVisited());
+        assertEquals(4, snapshot.maxDepth());
+        assertTrue(snapshot.prunes() > 0);
+        assertTrue(snapshot.startCellNanos(4) > 0);
+        assertTrue(snapshot.toString().startsWith("1 boards"));
+        // out of range
+        assertEquals(0, snapshot.meanBranching(99));
+        assertEquals(0, snapshot.startCellNanos(-1));
+    }
+
+    @Test
+    public void shouldCountSameSearchInParallel() {
+        final SearchMetrics sequential = new SearchMetrics();
+        final SearchMetrics parallel = new SearchMetrics();
+        final Boggle sequentialBoggle = new Boggle(lexicon, 1, sequential);
+        final Boggle parallelBoggle = new Boggle(lexicon, 4, parallel);
+        final String board = "yoxrbavedbadrobeyoreadearb";
+        for(int i = 0; i < 10; i++) {
+            assertEquals(sequentialBoggle.solveBoard(5, 5, board.substring(0, 25)), parallelBoggle.solveBoard(5, 5, board.substring(0, 25)));
+        }
+
+        final SearchMetrics.Snapshot expected = sequential.snapshot();
+        final SearchMetrics.Snapshot actual = parallel.snapshot();
+        assertEquals(10, actual.boards());
+        assertEquals(expected.cellsVisited(), actual.cellsVisited());
+        assertEquals(expected.prunes(), actual.prunes());
+        assertEquals(expected.maxDepth(), actual.maxDepth());
+        for(int depth = 1; depth <= expected.maxDepth(); depth++) {
+            assertArrayEquals(expected.branching(depth), actual.branching(depth));
+        }
+    }
+
+    @Test
+    public void shouldNotCountWithoutMetrics() {
+        final SearchMetrics metrics = new SearchMetrics();
+        new Boggle(lexicon).solveBoard(3, 3, "yoxrbaved");
+        new Boggle(lexicon, 1, metrics).solveBoard(3, 3, "yox");
+        assertEquals(0, metrics.snapshot().boards());
+        assertEquals(0, metrics.snapshot().cellsVisited());
+    }
+
+}